@@ -0,0 +1,38 @@
+package com.example.kanban;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 데이터베이스를 거치는 벤치마크용. H2 메모리 데이터베이스 위에 애플리케이션을 띄우며 스키마는 Flyway 가 만든다.
+ * 포크마다 새 데이터베이스를 쓰도록 이름에 임의 값을 붙인다.
+ */
+public final class EmbeddedApplication {
+
+    private EmbeddedApplication() {
+    }
+
+    /**
+     * "--" 로 시작하는 설정을 넘기면 기본값보다 우선한다.
+     */
+    public static ConfigurableApplicationContext start(String... overrides) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID()
+                        + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--rate-limit.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(KanbanApplication.class)
+                .logStartupInfo(false)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.entity.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/tasks 응답 본문 직렬화 비용. 스프링 부트와 같은 기본 설정의 ObjectMapper 를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskDtoSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<TaskDto> tasks;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+        TaskStatus[] statuses = TaskStatus.values();
+        LocalDateTime createdAt = LocalDateTime.now();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(TaskDto.builder()
+                    .id((long) i)
+                    .title("태스크 제목 " + i)
+                    .description("태스크 설명입니다. Task description " + i)
+                    .status(statuses[i % statuses.length])
+                    .order((long) i << 20)
+                    .creatorName("벤치마크")
+                    .createdAt(createdAt)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
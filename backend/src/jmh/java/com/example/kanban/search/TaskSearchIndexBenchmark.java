@@ -0,0 +1,78 @@
+package com.example.kanban.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태스크 100,000건 색인에서 검색 한 번의 지연 분포(SampleTime 의 백분위)를 잰다. 어휘를 일부러 작게 잡아
+ * 검색어 하나가 수만 건에 걸리도록 했으므로 실제 보드보다 불리한 조건이다. 수정 비용은 upsert 로 따로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSearchIndexBenchmark {
+
+    private static final int TASKS = 100_000;
+
+    private static final String[] KOREAN = {"회의", "회의록", "작성", "배포", "서버", "점검", "디자인", "검토", "버그",
+            "수정", "고객", "요청", "일정", "조율", "보고서", "정리", "테스트", "자동화", "데이터", "마이그레이션", "결제",
+            "모듈", "로그인", "화면", "개선", "문서", "번역", "예산", "승인", "채용", "면접", "리팩터링", "알림", "설정",
+            "성능", "최적화"};
+    private static final String[] ENGLISH = {"api", "deploy", "login", "payment", "release", "sprint", "review",
+            "refactor", "cache", "index", "search", "kanban", "board", "docker", "kotlin", "spring", "react",
+            "metrics", "latency", "backup"};
+
+    @Param({"회의록", "배포 서버 점검", "deploy", "payment 결제 모듈", "마이그레이션", "release 일정 조율 보고서"})
+    public String query;
+
+    private TaskSearchIndex index;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        index = new TaskSearchIndex();
+        for (int i = 1; i <= TASKS; i++) {
+            index.upsert(i, words(random, 3 + random.nextInt(4)),
+                    random.nextInt(3) == 0 ? null : words(random, 8 + random.nextInt(20)));
+        }
+    }
+
+    @Benchmark
+    public List<TaskSearchIndex.Hit> search() {
+        return index.search(query, 20);
+    }
+
+    @Benchmark
+    public void upsert() {
+        index.upsert(1 + random.nextInt(TASKS), words(random, 4), words(random, 12));
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            if (random.nextInt(4) == 0) {
+                text.append(ENGLISH[random.nextInt(ENGLISH.length)]);
+            } else {
+                text.append(KOREAN[random.nextInt(KOREAN.length)]);
+                if (random.nextBoolean()) {
+                    text.append(random.nextBoolean() ? "을" : "에서");
+                }
+            }
+        }
+        return text.toString();
+    }
+}
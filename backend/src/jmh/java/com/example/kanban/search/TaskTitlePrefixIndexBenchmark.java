@@ -0,0 +1,75 @@
+package com.example.kanban.search;
+
+import com.example.kanban.dto.TaskSuggestionDto;
+import com.example.kanban.entity.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태스크 100,000건 제목 색인에서 키 입력마다 부르는 자동완성의 지연 분포를 잰다. 한 글자 접두사처럼 범위가
+ * 수만 항목에 이르는 경우를 포함하며, 측정 중 병합이 끼어들도록 수정과 삭제를 섞어 둔 색인을 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskTitlePrefixIndexBenchmark {
+
+    private static final int TASKS = 100_000;
+
+    private static final String[] WORDS = {"회의", "회의록", "작성", "배포", "서버", "점검", "디자인", "검토", "버그", "수정",
+            "고객", "요청", "일정", "조율", "보고서", "정리", "테스트", "자동화", "데이터", "마이그레이션", "결제", "모듈",
+            "API", "Deploy", "login", "Payment", "release", "sprint", "review", "refactor", "cache", "index"};
+
+    @Param({"회", "회의", "마이그", "d", "dep", "release 일"})
+    public String prefix;
+
+    private TaskTitlePrefixIndex index;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(7);
+        List<TaskSuggestionDto> tasks = new ArrayList<>(TASKS);
+        for (int i = 1; i <= TASKS; i++) {
+            tasks.add(TaskSuggestionDto.builder().id((long) i).title(title(random)).status(TaskStatus.TODO).build());
+        }
+        index = TaskTitlePrefixIndex.of(tasks);
+        for (int i = 0; i < 5_000; i++) {
+            index.upsert(1 + random.nextInt(TASKS), title(random), TaskStatus.DONE);
+            index.remove(1 + random.nextInt(TASKS));
+        }
+    }
+
+    @Benchmark
+    public List<TaskSuggestionDto> suggest() {
+        return index.suggest(prefix, 10);
+    }
+
+    @Benchmark
+    public void upsert() {
+        index.upsert(1 + random.nextInt(TASKS), title(random), TaskStatus.IN_PROGRESS);
+    }
+
+    private static String title(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+}
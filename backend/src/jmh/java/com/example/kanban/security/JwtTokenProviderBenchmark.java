@@ -0,0 +1,80 @@
+package com.example.kanban.security;
+
+import com.example.kanban.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건의 토큰 검증 비용을 비교한다.
+ * legacy 는 변경 전 필터 경로(extractUsername + isTokenValid 안의 두 번의 파싱, 매번 키/파서 생성)를 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 0);
+        cachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 10_000);
+        user = User.builder()
+                .id(1L)
+                .name("벤치마크")
+                .email("bench@example.com")
+                .password("encodedPassword")
+                .build();
+        token = uncachedProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String username = legacyParse(token).getSubject();
+        return legacyParse(token).getSubject().equals(username)
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        Claims claims = uncachedProvider.validateToken(token);
+        return uncachedProvider.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean cachedParse() {
+        Claims claims = cachedProvider.validateToken(token);
+        return cachedProvider.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncachedProvider.generateToken(user);
+    }
+
+    private static Claims legacyParse(String jwt) {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
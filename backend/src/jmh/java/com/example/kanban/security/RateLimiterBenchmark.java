@@ -0,0 +1,51 @@
+package com.example.kanban.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 64 스레드가 동시에 토큰을 꺼낼 때 요청 한 건이 리미터에서 쓰는 시간을 잰다.
+ * perClient 는 스레드마다 다른 키(일반적인 경우), sharedKey 는 모든 스레드가 한 버킷을 두고 CAS 경합하는 최악의 경우다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(64)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private RateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        // 거절 경로도 허용 경로와 같은 비용이 들도록 보충 속도를 충분히 높게 둔다.
+        limiter = new RateLimiter(100, 1_000_000, Duration.ofMinutes(10), CLIENTS * 2L);
+        keys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            keys[i] = "user-" + i + "@example.com";
+            limiter.tryAcquire(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public long perClient() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+
+    @Benchmark
+    public long sharedKey() {
+        return limiter.tryAcquire(keys[0]);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.kanban.service;
+
+import com.example.kanban.security.BCryptStrengthCalibrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthService.register 에서 가장 비싼 단계인 비밀번호 해시 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuthServiceBenchmark {
+
+    /**
+     * 0 이면 AppConfig.passwordEncoder() 의 기본 설정(latency-budget 250ms, 강도 10~14)대로 이 머신에서 강도를 정한다.
+     */
+    @Param({"0", "10"})
+    public int strength;
+
+    private PasswordEncoder passwordEncoder;
+
+    @Setup
+    public void setUp() {
+        int effectiveStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(Duration.ofMillis(250), 10, 14);
+        // 대기열과 풀은 동시 요청 수를 제한할 뿐 해시 한 번의 비용은 바꾸지 않으므로 BoundedPasswordEncoder 는 거치지 않는다.
+        passwordEncoder = new BCryptPasswordEncoder(effectiveStrength);
+    }
+
+    @Benchmark
+    public String encodePassword() {
+        return passwordEncoder.encode("password123");
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.kanban.service;
+
+import com.example.kanban.EmbeddedApplication;
+import com.example.kanban.dto.BatchTaskUpdateItem;
+import com.example.kanban.dto.BatchTaskUpdateRequest;
+import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.UpdateTaskRequest;
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태스크 1,000건의 상태를 단건 수정 1,000회로 바꾸는 경우와 일괄 수정 1회로 바꾸는 경우의 소요 시간.
+ * 문장 수와 트랜잭션 수 비교는 TaskBatchUpdateTest 가 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskBatchBenchmark {
+
+    private static final int TASK_COUNT = 1000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private String email;
+    private List<Long> ids;
+    private boolean done;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start();
+        taskService = context.getBean(TaskService.class);
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .name("벤치마크")
+                .email("batch@example.com")
+                .password("encodedPassword")
+                .build());
+        email = user.getEmail();
+        ids = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            ids.add(taskService.createTask(email, CreateTaskRequest.builder().title("태스크 " + i).build()).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleUpdates() {
+        UpdateTaskRequest request = UpdateTaskRequest.builder().status(nextStatus()).build();
+        int updated = 0;
+        for (Long id : ids) {
+            taskService.updateTask(email, id, request);
+            updated++;
+        }
+        return updated;
+    }
+
+    @Benchmark
+    public List<TaskDto> batchUpdate() {
+        TaskStatus status = nextStatus();
+        List<BatchTaskUpdateItem> updates = ids.stream()
+                .map(id -> BatchTaskUpdateItem.builder().id(id).status(status).build())
+                .toList();
+        return taskService.batchUpdateTasks(email, BatchTaskUpdateRequest.builder().updates(updates).build());
+    }
+
+    // 매번 값이 바뀌어야 dirty checking 이 UPDATE 를 만든다.
+    private TaskStatus nextStatus() {
+        done = !done;
+        return done ? TaskStatus.DONE : TaskStatus.IN_PROGRESS;
+    }
+}
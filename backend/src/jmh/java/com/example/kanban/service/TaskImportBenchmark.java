@@ -0,0 +1,93 @@
+package com.example.kanban.service;
+
+import com.example.kanban.EmbeddedApplication;
+import com.example.kanban.dto.TaskImportProgressDto;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 200,000행 CSV 를 H2 에 가져오는 처리량(초당 행 수). 100행마다 하나는 일부러 잘못된 행이다.
+ * 반복마다 새 사용자에게 가져오므로 보드 크기가 측정에 섞이지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskImportBenchmark {
+
+    private static final int ROWS = 200_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskImportService taskImportService;
+    private UserRepository userRepository;
+    private byte[] csv;
+    private String email;
+    private int users;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start();
+        taskImportService = context.getBean(TaskImportService.class);
+        userRepository = context.getBean(UserRepository.class);
+        csv = csv();
+    }
+
+    @Setup(Level.Invocation)
+    public void newUser() {
+        email = "import-" + (users++) + "@example.com";
+        userRepository.save(User.builder()
+                .name("가져오기")
+                .email(email)
+                .password("encodedPassword")
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public TaskImportProgressDto csvImport() throws IOException {
+        return taskImportService
+                .prepare(email, TaskImportService.Format.CSV, new ByteArrayInputStream(csv))
+                .run(progress -> { });
+    }
+
+    private static byte[] csv() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ROWS * 48);
+        StringBuilder line = new StringBuilder("title,description,status\n");
+        String[] statuses = {"TODO", "IN_PROGRESS", "DONE"};
+        for (int i = 0; i < ROWS; i++) {
+            if (i % 100 == 99) {
+                line.append(",빈 제목,TODO\n");
+            } else {
+                line.append("태스크 ").append(i).append(",\"설명, ").append(i).append("\",")
+                        .append(statuses[i % statuses.length]).append('\n');
+            }
+            if (line.length() > 8192) {
+                out.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+                line.setLength(0);
+            }
+        }
+        out.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.kanban.service;
+
+import com.example.kanban.EmbeddedApplication;
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.entity.Task;
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.TaskRepository;
+import com.example.kanban.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10,000건 보드를 엔티티로 읽어 매핑하는 경로와 TaskDto 생성자 프로젝션 경로의 소요 시간.
+ * 할당량은 ./gradlew jmh -PjmhIncludes=TaskProjectionBenchmark -PjmhProfilers=gc 의 gc.alloc.rate.norm 으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskProjectionBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private String email;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedApplication.start();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        User user = userRepository.save(User.builder()
+                .name("프로젝션사용자")
+                .email("projection@example.com")
+                .password("encodedPassword")
+                .build());
+        email = user.getEmail();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Task> tasks = new ArrayList<>(TASK_COUNT);
+            for (int i = 0; i < TASK_COUNT; i++) {
+                tasks.add(Task.builder()
+                        .title("태스크 " + i)
+                        .description("설명 " + i)
+                        .status(TaskStatus.values()[i % TaskStatus.values().length])
+                        .order((i + 1L) * TaskRankService.RANK_GAP)
+                        .user(user)
+                        .build());
+            }
+            taskRepository.saveAll(tasks);
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDto> entityThenMap() {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findByEmail(email).orElseThrow();
+            return taskRepository.findAllByUserOrderByOrderAsc(user).stream()
+                    .map(TaskService::mapToDto)
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public List<TaskDto> dtoProjection() {
+        return taskService.getTasks(email);
+    }
+}
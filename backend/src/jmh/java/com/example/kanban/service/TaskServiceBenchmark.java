@@ -0,0 +1,48 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.entity.Task;
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskServiceBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .name("벤치마크")
+                .email("bench@example.com")
+                .password("encodedPassword")
+                .build();
+        task = Task.builder()
+                .id(1L)
+                .title("벤치마크 태스크")
+                .description("벤치마크 설명")
+                .status(TaskStatus.IN_PROGRESS)
+                .order(1L << 20)
+                .user(user)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public TaskDto mapToDto() {
+        return TaskService.mapToDto(task);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.kanban.loadtest;
+
+import com.example.kanban.loadtest.LoadTestClient.VirtualUser;
+import com.example.kanban.loadtest.LoadTestRunner.Result;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * closed 모드의 동시 사용자 수를 단계적으로 늘리며 고정 크기 커넥션 풀 앞에서 처리량과 p99 가 어떻게 변하는지 잰다.
+ * 기본값은 가상 스레드 모드에 커넥션 입장 세마포어를 켠 구성이며, "--" 인자로 비교 구성을 줄 수 있다.
+ *
+ * <pre>
+ * ./gradlew loadTestScaling -PloadTestArgs="levels=16,64,256,1024 duration=30"
+ * ./gradlew loadTestScaling -PloadTestArgs="levels=16,64,256,1024 --spring.threads.virtual.enabled=false --datasource.admission.enabled=false"
+ * </pre>
+ */
+public final class ConcurrencyScalingRunner {
+
+    private ConcurrencyScalingRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig base = LoadTestConfig.parse(withDefaults(args));
+        int[] levels = levels(args);
+        List<String> overrides = new ArrayList<>(List.of(
+                "--spring.threads.virtual.enabled=true",
+                "--datasource.admission.enabled=true",
+                "--spring.datasource.hikari.maximum-pool-size=10"));
+        overrides.addAll(List.of(LoadTestRunner.springArgs(args)));
+
+        ConfigurableApplicationContext context = LoadTestRunner.startEmbedded(overrides.toArray(String[]::new));
+        try {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestClient client = new LoadTestClient(baseUrl);
+            List<VirtualUser> users = new ArrayList<>();
+            Map<Integer, Result> results = new LinkedHashMap<>();
+            for (int level : levels) {
+                System.out.printf("%n=== concurrency %d ===%n", level);
+                LoadTestConfig config = base.withConcurrency(level, "build/reports/loadtest/scaling-" + level + ".json");
+                results.put(level, new LoadTestRunner(config, client, users).run());
+            }
+            summarize(overrides, results);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void summarize(List<String> overrides, Map<Integer, Result> results) throws Exception {
+        System.out.printf("%n%12s %10s %9s %7s%n", "concurrency", "req/s", "p99 ms", "errors");
+        results.forEach((level, result) -> System.out.printf("%12d %10.1f %9.2f %7d%n",
+                level, result.throughput(), result.p99Ms(), result.errors()));
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("settings", overrides);
+        document.put("levels", results);
+        File reportFile = new File("build/reports/loadtest/scaling.json");
+        reportFile.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, document);
+        System.out.println("report written to " + reportFile.getAbsolutePath());
+    }
+
+    private static String[] withDefaults(String[] args) {
+        List<String> all = new ArrayList<>(List.of("mode=closed", "duration=20", "warmup=5"));
+        all.addAll(Arrays.asList(args));
+        return all.toArray(String[]::new);
+    }
+
+    private static int[] levels(String[] args) {
+        String levels = Arrays.stream(args)
+                .filter(arg -> arg.startsWith("levels="))
+                .map(arg -> arg.substring("levels=".length()))
+                .reduce((first, second) -> second)
+                .orElse("16,64,256,1024");
+        return Arrays.stream(levels.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+}
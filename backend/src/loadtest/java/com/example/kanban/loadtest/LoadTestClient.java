@@ -0,0 +1,111 @@
+package com.example.kanban.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실제 HTTP 로 API 를 호출한다. 가상 사용자마다 토큰과 자신이 만든 태스크 ID 를 들고 다닌다.
+ */
+class LoadTestClient {
+
+    static final String PASSWORD = "loadtest-password";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final AtomicLong registrations = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    LoadTestClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    static final class VirtualUser {
+        final String email;
+        volatile String token;
+        final ConcurrentLinkedDeque<Long> taskIds = new ConcurrentLinkedDeque<>();
+
+        VirtualUser(String email, String token) {
+            this.email = email;
+            this.token = token;
+        }
+    }
+
+    VirtualUser register() throws IOException, InterruptedException {
+        String email = "load-" + runId + "-" + registrations.incrementAndGet() + "@example.com";
+        JsonNode body = send("POST", "/api/auth/register", null,
+                Map.of("name", "부하테스트", "email", email, "password", PASSWORD));
+        return new VirtualUser(email, body.get("token").asText());
+    }
+
+    void login(VirtualUser user) throws IOException, InterruptedException {
+        JsonNode body = send("POST", "/api/auth/login", null, Map.of("email", user.email, "password", PASSWORD));
+        user.token = body.get("token").asText();
+    }
+
+    void list(VirtualUser user) throws IOException, InterruptedException {
+        send("GET", "/api/tasks", user.token, null);
+    }
+
+    void create(VirtualUser user) throws IOException, InterruptedException {
+        JsonNode body = send("POST", "/api/tasks", user.token,
+                Map.of("title", "부하 태스크 " + ThreadLocalRandom.current().nextInt(), "description", "load test"));
+        user.taskIds.add(body.get("id").asLong());
+    }
+
+    void update(VirtualUser user) throws IOException, InterruptedException {
+        Long taskId = user.taskIds.peekLast();
+        if (taskId == null) {
+            create(user);
+            return;
+        }
+        String[] statuses = {"TODO", "IN_PROGRESS", "DONE"};
+        send("PUT", "/api/tasks/" + taskId, user.token,
+                Map.of("status", statuses[ThreadLocalRandom.current().nextInt(statuses.length)]));
+    }
+
+    void delete(VirtualUser user) throws IOException, InterruptedException {
+        Long taskId = user.taskIds.pollFirst();
+        if (taskId == null) {
+            create(user);
+            return;
+        }
+        send("DELETE", "/api/tasks/" + taskId, user.token, null);
+    }
+
+    private JsonNode send(String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IOException(method + " " + path + " -> " + response.statusCode());
+        }
+        byte[] responseBody = response.body();
+        return responseBody.length == 0 ? null : objectMapper.readTree(responseBody);
+    }
+}
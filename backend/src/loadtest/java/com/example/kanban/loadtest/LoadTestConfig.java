@@ -0,0 +1,66 @@
+package com.example.kanban.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * key=value 형식의 인자로 부하 시나리오를 구성한다.
+ *
+ * <pre>
+ * mode=open rate=200 duration=60 warmup=10 users=50 seedTasks=20
+ * mix=list:50,create:15,update:20,delete:5,login:8,register:2
+ * concurrency=64 (closed 모드 동시 사용자 수) baseUrl=http://host:8080 (지정 시 내장 서버를 띄우지 않음)
+ * </pre>
+ */
+record LoadTestConfig(
+        Mode mode,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        int users,
+        int seedTasks,
+        int concurrency,
+        Map<Operation, Integer> mix,
+        String baseUrl,
+        String reportFile) {
+
+    enum Mode {
+        OPEN, CLOSED
+    }
+
+    LoadTestConfig withConcurrency(int concurrency, String reportFile) {
+        return new LoadTestConfig(mode, rate, duration, warmup, users, seedTasks, concurrency, mix, baseUrl, reportFile);
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0 && !arg.startsWith("--")) {
+                values.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return new LoadTestConfig(
+                Mode.valueOf(values.getOrDefault("mode", "open").toUpperCase()),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Integer.parseInt(values.getOrDefault("seedTasks", "20")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                parseMix(values.getOrDefault("mix", "list:50,create:15,update:20,delete:5,login:8,register:2")),
+                values.get("baseUrl"),
+                values.getOrDefault("report", "build/reports/loadtest/results.json"));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.kanban.loadtest;
+
+import com.example.kanban.KanbanApplication;
+import com.example.kanban.loadtest.LoadTestClient.VirtualUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 보안 필터 체인부터 JPA 까지 전체 스택에 대한 부하 테스트.
+ * baseUrl 을 주지 않으면 H2 위에 애플리케이션을 직접 띄운다.
+ *
+ * <p>open 모드는 응답과 무관하게 고정된 도착률로 요청을 보내고, 지연 시간을 실제 전송 시각이 아니라
+ * 예정된 전송 시각부터 잰다. 느린 응답이 다음 요청을 늦춰 꼬리 지연이 가려지는 coordinated omission 을 피하기 위해서다.
+ *
+ * <pre>./gradlew loadTest -PloadTestArgs="mode=open rate=300 duration=60"</pre>
+ */
+public final class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestConfig config;
+    private final LoadTestClient client;
+    private final Map<Operation, ConcurrentHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Operation[] weightedOperations;
+    private final List<VirtualUser> users;
+    private final LongAdder lateDispatches = new LongAdder();
+
+    LoadTestRunner(LoadTestConfig config, LoadTestClient client) {
+        this(config, client, new ArrayList<>());
+    }
+
+    LoadTestRunner(LoadTestConfig config, LoadTestClient client, List<VirtualUser> users) {
+        this.config = config;
+        this.client = client;
+        this.users = users;
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        List<Operation> weighted = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        this.weightedOperations = weighted.toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+        if (baseUrl == null) {
+            context = startEmbedded(springArgs(args));
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        try {
+            new LoadTestRunner(config, new LoadTestClient(baseUrl)).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * "--" 로 시작하는 인자는 내장 애플리케이션 설정으로 넘기며 기본값보다 우선한다.
+     */
+    static ConfigurableApplicationContext startEmbedded(String... overrides) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--rate-limit.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(KanbanApplication.class)
+                .logStartupInfo(false)
+                .run(args.toArray(String[]::new));
+    }
+
+    static String[] springArgs(String[] args) {
+        return Arrays.stream(args).filter(arg -> arg.startsWith("--")).toArray(String[]::new);
+    }
+
+    Result run() throws Exception {
+        if (users.isEmpty()) {
+            seed();
+        }
+        System.out.printf("warmup %ds%n", config.warmup().toSeconds());
+        drive(config.warmup());
+        reset();
+        System.out.printf("measuring %ds (%s, %s)%n", config.duration().toSeconds(), config.mode(),
+                config.mode() == LoadTestConfig.Mode.OPEN
+                        ? config.rate() + " req/s"
+                        : config.concurrency() + " concurrent users");
+        drive(config.duration());
+        return report();
+    }
+
+    private void seed() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<VirtualUser>> futures = new ArrayList<>();
+            for (int i = 0; i < config.users(); i++) {
+                futures.add(executor.submit(() -> {
+                    VirtualUser user = client.register();
+                    for (int t = 0; t < config.seedTasks(); t++) {
+                        client.create(user);
+                    }
+                    return user;
+                }));
+            }
+            for (Future<VirtualUser> future : futures) {
+                users.add(future.get());
+            }
+        }
+    }
+
+    private void drive(Duration duration) {
+        if (config.mode() == LoadTestConfig.Mode.OPEN) {
+            driveOpenLoop(duration);
+        } else {
+            driveClosedLoop(duration);
+        }
+    }
+
+    private void driveOpenLoop(Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (-wait > intervalNanos) {
+                    lateDispatches.increment();
+                }
+                Operation operation = nextOperation();
+                executor.execute(() -> execute(operation, intended));
+            }
+        }
+    }
+
+    private void driveClosedLoop(Duration duration) {
+        long end = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        execute(nextOperation(), System.nanoTime());
+                    }
+                });
+            }
+        }
+    }
+
+    private void execute(Operation operation, long intendedStartNanos) {
+        VirtualUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        try {
+            switch (operation) {
+                case REGISTER -> client.register();
+                case LOGIN -> client.login(user);
+                case LIST -> client.list(user);
+                case CREATE -> client.create(user);
+                case UPDATE -> client.update(user);
+                case DELETE -> client.delete(user);
+            }
+        } catch (Exception e) {
+            errors.get(operation).increment();
+        } finally {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+            histograms.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+
+    private Operation nextOperation() {
+        return weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+    }
+
+    private void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        lateDispatches.reset();
+    }
+
+    private Result report() throws Exception {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, Object> results = new LinkedHashMap<>();
+        long total = 0;
+        long totalErrors = 0;
+        Histogram combined = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        System.out.printf("%-10s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            total += count;
+            totalErrors += errors.get(operation).sum();
+            combined.add(histogram);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", count);
+            row.put("errors", errors.get(operation).sum());
+            row.put("throughput", count / seconds);
+            row.put("p50Ms", millis(histogram, 50));
+            row.put("p90Ms", millis(histogram, 90));
+            row.put("p99Ms", millis(histogram, 99));
+            row.put("p999Ms", millis(histogram, 99.9));
+            row.put("maxMs", histogram.getMaxValue() / 1000.0);
+            results.put(operation.name(), row);
+            System.out.printf("%-10s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation, count, errors.get(operation).sum(), count / seconds,
+                    row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"));
+        }
+        System.out.printf("total %.1f req/s, late dispatches %d%n", total / seconds, lateDispatches.sum());
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("mode", config.mode());
+        document.put("targetRate", config.rate());
+        document.put("concurrency", config.concurrency());
+        document.put("durationSeconds", config.duration().toSeconds());
+        document.put("throughput", total / seconds);
+        document.put("lateDispatches", lateDispatches.sum());
+        document.put("operations", results);
+        File reportFile = new File(config.reportFile());
+        reportFile.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, document);
+        System.out.println("report written to " + reportFile.getAbsolutePath());
+        return new Result(total / seconds, millis(combined, 99), totalErrors);
+    }
+
+    record Result(double throughput, double p99Ms, long errors) {
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.kanban.loadtest;
+
+enum Operation {
+    REGISTER, LOGIN, LIST, CREATE, UPDATE, DELETE
+}
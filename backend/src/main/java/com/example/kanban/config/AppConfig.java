@@ -1,7 +1,11 @@
 package com.example.kanban.config;
 
 import com.example.kanban.repository.UserRepository;
+import com.example.kanban.security.BCryptStrengthCalibrator;
+import com.example.kanban.security.BoundedPasswordEncoder;
+import com.example.kanban.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,16 +15,19 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class AppConfig {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return email -> userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        return email -> principalCache.get(email, key -> userRepository.findByNaturalEmail(key)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다.")));
     }
 
     @Bean
@@ -28,8 +35,26 @@ public class AppConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * strength 를 지정하지 않으면 기동 시 latency-budget 에 맞춰 강도를 정한다.
+     * 이보다 약한 강도로 저장된 해시는 다음 로그인 때 PasswordUpgradeService 가 다시 저장한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.strength:0}") int strength,
+            @Value("${security.password-hashing.latency-budget:250ms}") Duration latencyBudget,
+            @Value("${security.password-hashing.min-strength:10}") int minStrength,
+            @Value("${security.password-hashing.max-strength:14}") int maxStrength,
+            @Value("${security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.retry-after:1s}") Duration retryAfter) {
+        int effectiveStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(latencyBudget, minStrength, maxStrength);
+        int effectivePoolSize = poolSize > 0
+                ? poolSize
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(effectiveStrength),
+                effectivePoolSize, queueCapacity, retryAfter);
     }
 }
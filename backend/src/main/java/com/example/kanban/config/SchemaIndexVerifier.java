@@ -0,0 +1,111 @@
+package com.example.kanban.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 컬럼과 타입은 Hibernate 의 ddl-auto=validate 가 확인하지만 인덱스는 확인하지 않는다.
+ * 조회 경로가 기대는 인덱스가 실제 스키마에서 빠져 있으면(수동 변경, 누락된 마이그레이션) 기동을 중단한다.
+ * 인덱스 이름은 데이터베이스마다 다르게 만들어질 수 있으므로 선두 컬럼 구성으로 비교한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements ApplicationRunner {
+
+    static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("users", List.of("email"), true),
+            new RequiredIndex("tasks", List.of("user_id", "task_order", "id"), false),
+            new RequiredIndex("tasks", List.of("user_id", "status", "task_order", "id"), false),
+            new RequiredIndex("tasks", List.of("user_id", "updated_at"), false),
+            new RequiredIndex("task_tombstones", List.of("user_id", "deleted_at"), false),
+            new RequiredIndex("refresh_tokens", List.of("token_hash"), true));
+
+    private final DataSource dataSource;
+
+    public SchemaIndexVerifier(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<RequiredIndex> missing = findMissing();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Schema drift detected, missing indexes: " + missing);
+        }
+        log.info("Verified {} required indexes", REQUIRED_INDEXES.size());
+    }
+
+    public List<RequiredIndex> findMissing() throws SQLException {
+        List<RequiredIndex> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, List<IndexColumns>> cache = new HashMap<>();
+            for (RequiredIndex required : REQUIRED_INDEXES) {
+                List<IndexColumns> indexes = cache.computeIfAbsent(required.table(),
+                        table -> readIndexes(metaData, connection, table));
+                if (indexes.stream().noneMatch(index -> index.satisfies(required))) {
+                    missing.add(required);
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static List<IndexColumns> readIndexes(DatabaseMetaData metaData, Connection connection, String table) {
+        try {
+            String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            Map<String, IndexColumns> indexes = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName,
+                    false, false)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (name == null || column == null) {
+                        continue;
+                    }
+                    boolean unique = !rs.getBoolean("NON_UNIQUE");
+                    indexes.computeIfAbsent(name, ignored -> new IndexColumns(unique))
+                            .columns().put(rs.getInt("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+            return List.copyOf(indexes.values());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to read indexes of " + table, e);
+        }
+    }
+
+    public record RequiredIndex(String table, List<String> columns, boolean unique) {
+    }
+
+    private record IndexColumns(boolean unique, TreeMap<Integer, String> columns) {
+
+        IndexColumns(boolean unique) {
+            this(unique, new TreeMap<>());
+        }
+
+        boolean satisfies(RequiredIndex required) {
+            List<String> ordered = List.copyOf(columns.values());
+            if (required.unique()) {
+                return unique && ordered.equals(required.columns());
+            }
+            return ordered.size() >= required.columns().size()
+                    && ordered.subList(0, required.columns().size()).equals(required.columns());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.kanban.config;
+
+import com.example.kanban.entity.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * 거의 바뀌지 않고 매 요청 읽히는 User 를 Hibernate 2차 캐시(엔티티 + 이메일 자연 키)에 둔다.
+ * 제공자는 크기 제한이 있는 Caffeine(JCache)이며, 영역은 여기서 직접 만들고 없는 영역은 기동 실패로 드러낸다.
+ * 캐시는 인스턴스마다 따로 있으므로 다른 인스턴스에서의 변경은 ttl 이 지나야 보인다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    static final List<String> USER_REGIONS = List.of(User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${second-level-cache.user.max-size:10000}") long maxSize,
+            @Value("${second-level-cache.user.ttl:10m}") Duration ttl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 테스트처럼 컨텍스트가 여럿 떠도 영역 이름이 부딪치지 않도록 컨텍스트마다 별도의 매니저를 쓴다.
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("kanban-hibernate-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        for (String region : USER_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${second-level-cache.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+}
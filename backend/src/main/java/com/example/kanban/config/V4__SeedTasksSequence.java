@@ -0,0 +1,47 @@
+package com.example.kanban.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * tasks.id 를 IDENTITY 에서 tasks_seq(allocationSize 50)로 바꾸기 전에 만들어진 데이터베이스는
+ * baseline-on-migrate 로 V1 을 건너뛰므로 시퀀스가 없거나 1부터 시작해 기존 행과 기본 키가 겹친다.
+ * 시퀀스를 만들고 현재 MAX(id) 이후에서 다시 시작하게 한다.
+ * <p>
+ * 다시 시작할 값을 쿼리 결과로 정해야 하는데 PostgreSQL 의 setval 과 H2 의 ALTER SEQUENCE 가 서로 달라
+ * SQL 대신 Java 마이그레이션으로 두 데이터베이스에 같은 문장을 보낸다. Spring Boot 가 JavaMigration 빈을 Flyway 에 넘긴다.
+ */
+@Slf4j
+@Component
+public class V4__SeedTasksSequence extends BaseJavaMigration {
+
+    // Task 의 @SequenceGenerator(allocationSize) 와 같아야 한다.
+    public static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        seed(context.getConnection());
+    }
+
+    public static void seed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            long maxId;
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM tasks")) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            // pooled 최적화기는 시퀀스 값 v 를 받으면 (v - 50, v] 범위를 쓰므로 첫 값이 MAX(id) + 50 을 넘어야 한다.
+            long restartWith = maxId + ALLOCATION_SIZE + 1;
+            statement.execute("ALTER SEQUENCE tasks_seq RESTART WITH " + restartWith);
+            log.info("Restarted tasks_seq at {} (max task id {})", restartWith, maxId);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.kanban.controller;
 
 import com.example.kanban.dto.AuthenticationResponse;
 import com.example.kanban.dto.LoginRequest;
+import com.example.kanban.dto.RefreshTokenRequest;
 import com.example.kanban.dto.RegisterRequest;
 import com.example.kanban.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,9 +10,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -44,4 +47,28 @@ public class AuthController {
             @RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.authenticate(request));
     }
+
+    @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "갱신 성공"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 리프레시 토큰")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(
+            @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    @Operation(summary = "로그아웃", description = "현재 액세스 토큰과 리프레시 토큰을 폐기합니다")
+    @ApiResponse(responseCode = "200", description = "로그아웃 성공")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok().build();
+    }
 }
@@ -1,20 +1,43 @@
 package com.example.kanban.controller;
 
+import com.example.kanban.dto.BatchTaskUpdateRequest;
 import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.MoveTaskRequest;
+import com.example.kanban.dto.TaskBoardDto;
+import com.example.kanban.dto.TaskChangesDto;
 import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskPageDto;
+import com.example.kanban.dto.TaskSuggestionDto;
 import com.example.kanban.dto.UpdateTaskRequest;
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.search.TaskSearchService;
+import com.example.kanban.search.TaskTypeaheadService;
+import com.example.kanban.service.TaskExportService;
+import com.example.kanban.service.TaskImportService;
 import com.example.kanban.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,12 +47,121 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskTypeaheadService taskTypeaheadService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "태스크 목록 조회", description = "현재 사용자의 모든 태스크를 조회합니다")
-    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "보드 변경 없음")
+    })
     @GetMapping
-    public ResponseEntity<List<TaskDto>> getTasks(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(taskService.getTasks(userDetails.getUsername()));
+    public ResponseEntity<List<TaskDto>> getTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        String etag = boardEtag(userDetails.getUsername());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(taskService.getTasks(userDetails.getUsername()));
+    }
+
+    @Operation(summary = "보드 조회",
+            description = "상태별 컬럼의 전체 개수와 순서상 앞쪽 limit 개의 태스크를 조회합니다. "
+                    + "나머지는 컬럼의 nextCursor 로 페이지 조회 API 를 호출합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "보드 변경 없음")
+    })
+    @GetMapping("/board")
+    public ResponseEntity<TaskBoardDto> getBoard(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "컬럼당 태스크 수 (기본 50, 최대 200)") @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        // limit 마다 응답이 다르지만 URL 이 다르므로 ETag 는 보드 버전만으로 충분하다.
+        String etag = boardEtag(userDetails.getUsername());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(taskService.getBoard(userDetails.getUsername(), limit));
+    }
+
+    @Operation(summary = "태스크 페이지 조회",
+            description = "순서 기준 키셋 페이지네이션으로 태스크를 조회합니다. status를 지정하면 해당 컬럼만 조회합니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<TaskPageDto> getTaskPage(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "페이지 크기 (최대 200)") @RequestParam Integer limit,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "태스크 상태") @RequestParam(required = false) TaskStatus status) {
+        return ResponseEntity.ok(taskService.getTaskPage(userDetails.getUsername(), status, cursor, limit));
+    }
+
+    @Operation(summary = "태스크 변경분 조회",
+            description = "since 이후 변경된 태스크와 삭제된 태스크 ID를 조회합니다. 다음 요청에는 응답의 cursor를 사용합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDto> getChanges(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 cursor (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(taskService.getChanges(userDetails.getUsername(), since));
+    }
+
+    @Operation(summary = "태스크 검색",
+            description = "제목과 설명에서 검색어를 찾아 관련도(BM25) 순으로 조회합니다. 제목에서 찾은 단어에 가중치를 둡니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 없음")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskDto>> searchTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "검색어") @RequestParam(required = false) String q,
+            @Parameter(description = "최대 결과 수 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskSearchService.search(userDetails.getUsername(), q, limit));
+    }
+
+    @Operation(summary = "태스크 제목 자동완성",
+            description = "제목의 어느 단어든 prefix 로 시작하는 태스크를 최근에 만든 순으로 조회합니다. "
+                    + "prefix 가 비어 있으면 빈 목록입니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<TaskSuggestionDto>> suggestTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "입력 중인 제목") @RequestParam(required = false) String prefix,
+            @Parameter(description = "최대 결과 수 (기본 10, 최대 50)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskTypeaheadService.suggest(userDetails.getUsername(), prefix, limit));
+    }
+
+    @Operation(summary = "보드 내보내기",
+            description = "현재 사용자의 모든 태스크를 순서대로 스트리밍합니다. format 은 NDJSON(기본) 또는 JSON 배열입니다")
+    @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "출력 형식") @RequestParam(defaultValue = "NDJSON") TaskExportService.Format format) {
+        String username = userDetails.getUsername();
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.extension())
+                        .build()
+                        .toString())
+                .body(out -> taskExportService.export(username, format, out));
     }
 
     @Operation(summary = "태스크 생성", description = "새로운 태스크를 생성합니다")
@@ -44,7 +176,35 @@ public class TaskController {
         return ResponseEntity.ok(taskService.createTask(userDetails.getUsername(), request));
     }
 
-    @Operation(summary = "태스크 수정", description = "기존 태스크를 수정합니다")
+    @Operation(summary = "태스크 가져오기",
+            description = "CSV(title, description, status 헤더) 또는 NDJSON 본문을 읽어 태스크를 일괄 생성합니다. "
+                    + "진행 상황을 NDJSON 으로 스트리밍하며 마지막 줄의 done 이 true 입니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가져오기 시작"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식이거나 CSV 헤더가 잘못됨")
+    })
+    @PostMapping(path = "/import", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            InputStream body) throws IOException {
+        TaskImportService.Job job = taskImportService.prepare(userDetails.getUsername(),
+                TaskImportService.Format.of(contentType), body);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> job.run(progress -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(progress));
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+    }
+
+    @Operation(summary = "태스크 수정",
+            description = "기존 태스크를 수정합니다. order 를 보내면 그 값 이하의 마지막 태스크 뒤로 랭크를 다시 정합니다")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 성공"),
             @ApiResponse(responseCode = "404", description = "태스크를 찾을 수 없음"),
@@ -58,6 +218,38 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(userDetails.getUsername(), id, request));
     }
 
+    @Operation(summary = "태스크 일괄 수정",
+            description = "여러 태스크의 상태, 순서, 제목 등을 하나의 트랜잭션으로 수정합니다. "
+                    + "순서는 order 또는 afterTaskId/beforeTaskId 로 지정하며 항목 순서대로 적용됩니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "수정 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "404", description = "태스크를 찾을 수 없음"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "409", description = "두 이웃 태스크가 더 이상 맞닿아 있지 않음")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskDto>> batchUpdateTasks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody BatchTaskUpdateRequest request) {
+        return ResponseEntity.ok(taskService.batchUpdateTasks(userDetails.getUsername(), request));
+    }
+
+    @Operation(summary = "태스크 이동", description = "태스크를 두 태스크 사이로 이동합니다. 이동한 태스크 한 건만 갱신됩니다")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이동 성공"),
+            @ApiResponse(responseCode = "404", description = "태스크를 찾을 수 없음"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "409", description = "두 이웃 태스크가 더 이상 맞닿아 있지 않음")
+    })
+    @PutMapping("/{id}/move")
+    public ResponseEntity<TaskDto> moveTask(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "태스크 ID") @PathVariable Long id,
+            @RequestBody MoveTaskRequest request) {
+        return ResponseEntity.ok(taskService.moveTask(userDetails.getUsername(), id, request));
+    }
+
     @Operation(summary = "태스크 삭제", description = "태스크를 삭제합니다")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "삭제 성공"),
@@ -71,4 +263,10 @@ public class TaskController {
         taskService.deleteTask(userDetails.getUsername(), id);
         return ResponseEntity.ok().build();
     }
+
+    // 같은 URL 을 다른 사용자가 재사용해도 충돌하지 않도록 사용자 식별값을 함께 넣는다.
+    private String boardEtag(String username) {
+        long version = taskService.getBoardVersion(username);
+        return "\"" + Integer.toHexString(username.hashCode()) + "-" + version + "\"";
+    }
 }
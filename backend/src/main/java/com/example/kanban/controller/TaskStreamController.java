@@ -0,0 +1,30 @@
+package com.example.kanban.controller;
+
+import com.example.kanban.event.TaskEventHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@Tag(name = "태스크", description = "칸반 보드 태스크 관리 API")
+public class TaskStreamController {
+
+    private final TaskEventHub taskEventHub;
+
+    @Operation(summary = "태스크 변경 구독", description = "현재 사용자의 태스크 생성/수정/삭제 이벤트를 SSE로 전달합니다")
+    @ApiResponse(responseCode = "200", description = "구독 성공")
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(@AuthenticationPrincipal UserDetails userDetails) {
+        return taskEventHub.subscribe(userDetails.getUsername());
+    }
+}
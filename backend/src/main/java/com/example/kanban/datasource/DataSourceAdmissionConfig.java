@@ -0,0 +1,50 @@
+package com.example.kanban.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "datasource.admission.enabled", havingValue = "true")
+public class DataSourceAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionAdmissionPostProcessor(Environment environment) {
+        int permits = environment.getProperty("datasource.admission.permits", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        Duration acquireTimeout = environment.getProperty("datasource.admission.acquire-timeout", Duration.class,
+                Duration.ofSeconds(5));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionAdmissionDataSource)) {
+                    return new ConnectionAdmissionDataSource(dataSource, permits, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionAdmissionDataSource admission) {
+                Gauge.builder("kanban.datasource.admission.available", admission,
+                                ConnectionAdmissionDataSource::availablePermits)
+                        .description("Connection permits currently available")
+                        .register(registry);
+                Gauge.builder("kanban.datasource.admission.waiting", admission,
+                                ConnectionAdmissionDataSource::queueLength)
+                        .description("Threads waiting for a connection permit")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.kanban.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 복제본이 설정되면 spring.datasource 풀과 datasource.replica 풀을 만들고 둘을 라우팅 DataSource 하나로 노출한다.
+ * 풀은 빈으로 등록하지 않으므로 다른 DataSource 후처리(입장 제어 등)는 라우팅 DataSource 에만 한 번 적용된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            Environment environment,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.lag-query:}") String lagQuery,
+            @Value("${datasource.replica.max-lag:5s}") Duration maxLag) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder.get(environment).bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return new ReplicaLagMonitor(replica, lagQuery, maxLag);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+                                                 ReplicaLagMonitor replicaLagMonitor) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+        return new ReadWriteRoutingDataSource(primary, replicaLagMonitor);
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaLagMonitor replicaLagMonitor) {
+        return registry -> {
+            Gauge.builder("kanban.datasource.replica.lag", replicaLagMonitor, ReplicaLagMonitor::lagSeconds)
+                    .description("Last measured replication lag in seconds")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("kanban.datasource.replica.usable", replicaLagMonitor,
+                            monitor -> monitor.isUsable() ? 1 : 0)
+                    .description("Whether read-only transactions are currently routed to the replica")
+                    .register(registry);
+            FunctionCounter.builder("kanban.datasource.reads", replicaLagMonitor,
+                            ReplicaLagMonitor::replicaReadCount)
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("kanban.datasource.reads", replicaLagMonitor,
+                            ReplicaLagMonitor::fallbackReadCount)
+                    .tag("target", "primary")
+                    .register(registry);
+        };
+    }
+}
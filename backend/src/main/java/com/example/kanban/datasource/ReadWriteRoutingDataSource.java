@@ -0,0 +1,62 @@
+package com.example.kanban.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 데이터베이스로 보낸다.
+ * 트랜잭션 매니저는 readOnly 플래그를 설정하기 전에 커넥션을 얻으므로, 실제 커넥션은 첫 쿼리 시점까지 미뤄
+ * 그때의 readOnly 값으로 대상을 고른다. 복제본을 쓸 수 없으면 읽기 전용 트랜잭션도 주 데이터베이스로 간다.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaLagMonitor replicaLagMonitor) {
+        super(primary);
+        this.primary = primary;
+        setReadOnlyDataSource(new ReplicaOrPrimaryDataSource(primary, replicaLagMonitor));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class ReplicaOrPrimaryDataSource extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final ReplicaLagMonitor monitor;
+
+        ReplicaOrPrimaryDataSource(DataSource primary, ReplicaLagMonitor monitor) {
+            this.primary = primary;
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (monitor.isUsable()) {
+                try {
+                    Connection connection = monitor.replica().getConnection();
+                    monitor.recordRead(true);
+                    return connection;
+                } catch (SQLException e) {
+                    monitor.markUnavailable(e);
+                }
+            }
+            monitor.recordRead(false);
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.kanban.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 복제본의 지연을 주기적으로 측정해 읽기 전용 트랜잭션을 복제본으로 보내도 되는지 판단한다.
+ * 지연이 임계값을 넘거나 복제본에 연결할 수 없으면 다음 확인 때까지 읽기를 주 데이터베이스로 돌린다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    private volatile boolean usable;
+    private volatile long lagMillis;
+
+    /**
+     * @param lagQuery 복제 지연을 초 단위 숫자 하나로 돌려주는 쿼리. 비어 있으면 연결 가능 여부만 확인한다.
+     */
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+        check();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = replica.getConnection()) {
+            long lag = measureLag(connection);
+            lagMillis = lag;
+            usable = lag <= maxLagMillis;
+            if (wasUsable && !usable) {
+                log.warn("Replica lag {}ms exceeds {}ms, routing reads to primary", lag, maxLagMillis);
+            } else if (!wasUsable && usable) {
+                log.info("Replica available (lag {}ms), routing read-only transactions to replica", lag);
+            }
+        } catch (SQLException | RuntimeException e) {
+            markUnavailable(e);
+        }
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            return 0L;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            return rs.next() ? Math.round(rs.getDouble(1) * 1000) : 0L;
+        }
+    }
+
+    void markUnavailable(Exception cause) {
+        if (usable) {
+            log.warn("Replica unavailable, routing reads to primary: {}", cause.getMessage());
+        }
+        usable = false;
+    }
+
+    DataSource replica() {
+        return replica;
+    }
+
+    void recordRead(boolean routedToReplica) {
+        (routedToReplica ? replicaReads : fallbackReads).increment();
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public double lagSeconds() {
+        return lagMillis / 1000.0;
+    }
+
+    public long replicaReadCount() {
+        return replicaReads.sum();
+    }
+
+    public long fallbackReadCount() {
+        return fallbackReads.sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
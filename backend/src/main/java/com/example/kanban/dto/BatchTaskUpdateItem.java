@@ -0,0 +1,22 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTaskUpdateItem {
+    private Long id;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    // 순서는 order(PUT 과 같은 규칙) 또는 이동 API 와 같은 이웃 ID 로 지정하며 둘 다 랭크 엔진을 거친다.
+    private Long order;
+    private Long afterTaskId;
+    private Long beforeTaskId;
+}
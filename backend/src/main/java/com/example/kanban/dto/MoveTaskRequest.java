@@ -0,0 +1,18 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MoveTaskRequest {
+    private TaskStatus status;
+    private Long afterTaskId;
+    // afterTaskId 와 함께 보내면 두 태스크가 같은 컬럼에서 맞닿아 있어야 하며, 아니면 409 로 거절한다.
+    private Long beforeTaskId;
+}
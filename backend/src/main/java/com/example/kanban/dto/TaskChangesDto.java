@@ -0,0 +1,20 @@
+package com.example.kanban.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskChangesDto {
+    private List<TaskDto> changed;
+    private List<Long> deletedIds;
+    private LocalDateTime cursor;
+    private boolean fullResync;
+}
@@ -0,0 +1,23 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskColumnDto {
+    private TaskStatus status;
+    // 컬럼의 전체 태스크 수. tasks 는 앞쪽 일부일 수 있다.
+    private long count;
+    private List<TaskDto> tasks;
+    // 나머지는 GET /api/tasks?status=&cursor= 로 이어서 조회한다.
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -20,4 +20,9 @@ public class TaskDto {
     private Long order;
     private String creatorName;
     private LocalDateTime createdAt;
+
+    public TaskDto(Long id, String title, String description, TaskStatus status, Long order,
+                   LocalDateTime createdAt) {
+        this(id, title, description, status, order, null, createdAt);
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.event.TaskEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskEventDto {
+    private TaskEventType type;
+    private Long taskId;
+    private TaskDto task;
+}
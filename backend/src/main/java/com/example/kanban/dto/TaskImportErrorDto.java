@@ -0,0 +1,15 @@
+package com.example.kanban.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportErrorDto {
+    private long line;
+    private String message;
+}
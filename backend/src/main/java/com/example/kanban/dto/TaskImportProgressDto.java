@@ -0,0 +1,24 @@
+package com.example.kanban.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 가져오기 진행 상황. 응답은 이 객체를 한 줄씩 쓰는 NDJSON 이며, 마지막 줄만 done 이 true 다.
+ * errors 에는 직전 줄 이후에 거부된 행만 담는다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportProgressDto {
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<TaskImportErrorDto> errors;
+    private boolean done;
+}
@@ -0,0 +1,18 @@
+package com.example.kanban.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPageDto {
+    private List<TaskDto> tasks;
+    private String nextCursor;
+    private boolean hasNext;
+}
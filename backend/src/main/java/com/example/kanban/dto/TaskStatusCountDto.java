@@ -0,0 +1,14 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatusCountDto {
+    private TaskStatus status;
+    private Long count;
+}
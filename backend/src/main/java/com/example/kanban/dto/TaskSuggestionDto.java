@@ -0,0 +1,17 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSuggestionDto {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+}
@@ -14,5 +14,6 @@ public class UpdateTaskRequest {
     private String title;
     private String description;
     private TaskStatus status;
+    // 그대로 저장하지 않고, 이 값 이하의 마지막 태스크 뒤로 랭크를 다시 정한다. 새 클라이언트는 이동 API 를 쓴다.
     private Long order;
 }
@@ -1,10 +1,15 @@
 package com.example.kanban.entity;
 
+import com.example.kanban.security.PrincipalCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -18,8 +23,15 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Table(name = "users")
+@EntityListeners(PrincipalCacheInvalidationListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User implements UserDetails {
 
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-by-email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -30,6 +42,7 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String password;
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String email;
 
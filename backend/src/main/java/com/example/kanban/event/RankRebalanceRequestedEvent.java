@@ -0,0 +1,4 @@
+package com.example.kanban.event;
+
+public record RankRebalanceRequestedEvent(Long userId) {
+}
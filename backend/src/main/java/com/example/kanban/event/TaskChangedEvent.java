@@ -0,0 +1,22 @@
+package com.example.kanban.event;
+
+import com.example.kanban.dto.TaskDto;
+
+public record TaskChangedEvent(String username, TaskEventType type, Long taskId, TaskDto task) {
+
+    public static TaskChangedEvent created(String username, TaskDto task) {
+        return new TaskChangedEvent(username, TaskEventType.CREATED, task.getId(), task);
+    }
+
+    public static TaskChangedEvent updated(String username, TaskDto task) {
+        return new TaskChangedEvent(username, TaskEventType.UPDATED, task.getId(), task);
+    }
+
+    public static TaskChangedEvent deleted(String username, Long taskId) {
+        return new TaskChangedEvent(username, TaskEventType.DELETED, taskId, null);
+    }
+
+    public static TaskChangedEvent reordered(String username) {
+        return new TaskChangedEvent(username, TaskEventType.REORDERED, null, null);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.kanban.event;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskEventDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 태스크 변경을 소유자의 열린 SSE 연결로 전달한다.
+ * 연결마다 고정 크기 버퍼를 두고, 버퍼가 가득 찬 느린 소비자는 쓰는 쪽을 막지 않고 연결을 끊는다.
+ */
+@Slf4j
+@Component
+public class TaskEventHub {
+
+    private static final TaskChangedEvent HEARTBEAT = new TaskChangedEvent(null, null, null, null);
+
+    private final ConcurrentMap<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final Executor dispatcher;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    @Autowired
+    public TaskEventHub(
+            @Value("${push.sse.buffer-size:32}") int bufferSize,
+            @Value("${push.sse.timeout:30m}") Duration timeout) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), bufferSize, timeout);
+    }
+
+    TaskEventHub(Executor dispatcher, int bufferSize, Duration timeout) {
+        this.dispatcher = dispatcher;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter subscribe(String username) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(username, emitter, bufferSize);
+        // remove() 가 빈 집합을 지우는 것과 겹치지 않도록 추가도 같은 키 잠금 안에서 한다.
+        connections.compute(username, (key, targets) -> {
+            Set<Connection> set = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            set.add(connection);
+            return set;
+        });
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(e -> close(connection));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Connection> targets = connections.get(event.username());
+        if (targets == null) {
+            return;
+        }
+        for (Connection connection : targets) {
+            offer(connection, event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        // 가져온 카드를 하나씩 보내면 버퍼가 넘쳐 연결이 끊기므로, 보드를 다시 읽으라는 REORDERED 하나로 알린다.
+        onTaskChanged(TaskChangedEvent.reordered(event.username()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBatchUpdated(TasksBatchUpdatedEvent event) {
+        // 버퍼보다 큰 배치를 카드마다 보내면 연결이 끊기므로, 그때는 보드를 다시 읽으라는 REORDERED 하나로 알린다.
+        if (event.tasks().size() > bufferSize) {
+            onTaskChanged(TaskChangedEvent.reordered(event.username()));
+            return;
+        }
+        for (TaskDto task : event.tasks()) {
+            onTaskChanged(TaskChangedEvent.updated(event.username(), task));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${push.sse.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        for (Set<Connection> targets : connections.values()) {
+            for (Connection connection : targets) {
+                offer(connection, HEARTBEAT);
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void offer(Connection connection, TaskChangedEvent event) {
+        if (!connection.queue.offer(event)) {
+            log.debug("Dropping slow SSE consumer for {}", connection.username);
+            close(connection);
+            return;
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            TaskChangedEvent event;
+            while ((event = connection.queue.poll()) != null) {
+                connection.emitter.send(toSseEvent(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(connection);
+            return;
+        } finally {
+            connection.draining.set(false);
+        }
+        // drain 종료와 offer 사이에 들어온 이벤트가 남아 있으면 다시 예약한다.
+        if (!connection.queue.isEmpty() && connection.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(connection));
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(TaskChangedEvent event) {
+        if (event == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event()
+                .name(event.type().name())
+                .data(TaskEventDto.builder()
+                        .type(event.type())
+                        .taskId(event.taskId())
+                        .task(event.task())
+                        .build());
+    }
+
+    private void close(Connection connection) {
+        remove(connection);
+        connection.queue.clear();
+        connection.emitter.complete();
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.username, (key, targets) -> {
+            targets.remove(connection);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    private static final class Connection {
+        private final String username;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<TaskChangedEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(String username, SseEmitter emitter, int bufferSize) {
+            this.username = username;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.kanban.event;
+
+public enum TaskEventType {
+    CREATED, UPDATED, DELETED, REORDERED
+}
@@ -0,0 +1,11 @@
+package com.example.kanban.event;
+
+import java.util.List;
+
+import com.example.kanban.dto.TaskDto;
+
+/**
+ * 일괄 수정으로 한 트랜잭션에서 여러 태스크가 바뀐 경우. 카드 단위 TaskChangedEvent 대신 한 번 발행한다.
+ */
+public record TasksBatchUpdatedEvent(String username, List<TaskDto> tasks) {
+}
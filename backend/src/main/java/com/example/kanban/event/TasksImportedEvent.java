@@ -0,0 +1,7 @@
+package com.example.kanban.event;
+
+/**
+ * 가져오기로 한 트랜잭션에 많은 태스크가 한꺼번에 생긴 경우. 카드 단위 TaskChangedEvent 대신 발행한다.
+ */
+public record TasksImportedEvent(String username, long count) {
+}
@@ -0,0 +1,7 @@
+package com.example.kanban.exception;
+
+public class TaskOrderConflictException extends RuntimeException {
+    public TaskOrderConflictException(String message) {
+        super(message);
+    }
+}
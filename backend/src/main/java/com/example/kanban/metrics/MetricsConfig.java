@@ -0,0 +1,134 @@
+package com.example.kanban.metrics;
+
+import com.example.kanban.entity.User;
+import com.example.kanban.event.TaskEventHub;
+import com.example.kanban.search.TaskSearchService;
+import com.example.kanban.search.TaskTypeaheadService;
+import com.example.kanban.search.UserTaskIndexCache;
+import com.example.kanban.security.BoundedPasswordEncoder;
+import com.example.kanban.security.PrincipalCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder principalCacheMetrics(PrincipalCache principalCache) {
+        return registry -> {
+            FunctionCounter.builder("kanban.principal.cache.requests", principalCache, PrincipalCache::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("kanban.principal.cache.requests", principalCache, PrincipalCache::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("kanban.principal.cache.evictions", principalCache, PrincipalCache::evictionCount)
+                    .register(registry);
+            Gauge.builder("kanban.principal.cache.size", principalCache, PrincipalCache::size)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder taskEventHubMetrics(TaskEventHub taskEventHub) {
+        return registry -> Gauge.builder("kanban.sse.connections", taskEventHub, TaskEventHub::connectionCount)
+                .description("Open task event stream connections")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder taskSearchMetrics(TaskSearchService taskSearchService) {
+        return indexCacheMetrics("kanban.search.index", taskSearchService.indexCache(),
+                "Users with an in-memory search index");
+    }
+
+    @Bean
+    public MeterBinder taskTypeaheadMetrics(TaskTypeaheadService taskTypeaheadService) {
+        return indexCacheMetrics("kanban.typeahead.index", taskTypeaheadService.indexCache(),
+                "Users with an in-memory title prefix index");
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("kanban.password.hashing.active", passwordEncoder, BoundedPasswordEncoder::activeCount)
+                    .description("Password hashes currently being computed")
+                    .register(registry);
+            Gauge.builder("kanban.password.hashing.queued", passwordEncoder, BoundedPasswordEncoder::queueSize)
+                    .description("Password hashes waiting for a hashing thread")
+                    .register(registry);
+            FunctionCounter.builder("kanban.password.hashing.rejected", passwordEncoder,
+                            BoundedPasswordEncoder::rejectedCount)
+                    .description("Password hashes rejected because the hashing queue was full")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : List.of(User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION)) {
+                FunctionCounter.builder("kanban.hibernate.cache.requests", statistics,
+                                regionStatistic(region, CacheRegionStatistics::getHitCount))
+                        .tag("region", region)
+                        .tag("result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("kanban.hibernate.cache.requests", statistics,
+                                regionStatistic(region, CacheRegionStatistics::getMissCount))
+                        .tag("region", region)
+                        .tag("result", "miss")
+                        .register(registry);
+                FunctionCounter.builder("kanban.hibernate.cache.puts", statistics,
+                                regionStatistic(region, CacheRegionStatistics::getPutCount))
+                        .tag("region", region)
+                        .register(registry);
+                Gauge.builder("kanban.hibernate.cache.hit.ratio", statistics,
+                                regionStatistic(region, MetricsConfig::hitRatio))
+                        .description("Second-level cache hit ratio since startup")
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Statistics> regionStatistic(String region,
+                                                               ToDoubleFunction<CacheRegionStatistics> value) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : value.applyAsDouble(regionStatistics);
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests == 0 ? 0 : (double) statistics.getHitCount() / requests;
+    }
+
+    private static MeterBinder indexCacheMetrics(String prefix, UserTaskIndexCache<?> cache, String sizeDescription) {
+        return registry -> {
+            FunctionCounter.builder(prefix + ".requests", cache, UserTaskIndexCache::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder(prefix + ".requests", cache, UserTaskIndexCache::missCount)
+                    .tag("result", "miss")
+                    .description("Requests that had to build the user's index first")
+                    .register(registry);
+            FunctionCounter.builder(prefix + ".evictions", cache, UserTaskIndexCache::evictionCount)
+                    .register(registry);
+            Gauge.builder(prefix + ".size", cache, UserTaskIndexCache::indexCount)
+                    .description(sizeDescription)
+                    .register(registry);
+        };
+    }
+}
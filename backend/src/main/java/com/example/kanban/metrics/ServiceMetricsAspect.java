@@ -0,0 +1,78 @@
+package com.example.kanban.metrics;
+
+import com.example.kanban.exception.EmailAlreadyExistsException;
+import com.example.kanban.exception.InvalidCursorException;
+import com.example.kanban.exception.InvalidRequestException;
+import com.example.kanban.exception.TaskNotFoundException;
+import com.example.kanban.exception.UnauthorizedAccessException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * TaskService, AuthService 의 모든 공개 메서드 실행 시간을 결과(outcome)별 백분위 히스토그램으로 기록한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String OPERATION_TIMER = "kanban.service.operation";
+    static final String BOARD_SIZE_SUMMARY = "kanban.board.size";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.example.kanban.service.TaskService.*(..))"
+            + " || execution(public * com.example.kanban.service.AuthService.*(..))")
+    public Object timeOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Object result = joinPoint.proceed();
+            if ("getTasks".equals(joinPoint.getSignature().getName()) && result instanceof List<?> tasks) {
+                DistributionSummary.builder(BOARD_SIZE_SUMMARY)
+                        .description("Number of tasks returned for a full board load")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(tasks.size());
+            }
+            return result;
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(OPERATION_TIMER)
+                    .description("Service operation latency")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    static String outcome(Throwable e) {
+        if (e instanceof TaskNotFoundException || e instanceof UsernameNotFoundException) {
+            return "not-found";
+        }
+        if (e instanceof UnauthorizedAccessException || e instanceof AuthenticationException) {
+            return "unauthorized";
+        }
+        if (e instanceof EmailAlreadyExistsException) {
+            return "conflict";
+        }
+        if (e instanceof InvalidRequestException || e instanceof InvalidCursorException) {
+            return "bad-request";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.entity.BoardVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BoardVersionRepository extends JpaRepository<BoardVersion, Long> {
+    @Modifying
+    @Query("UPDATE BoardVersion b SET b.version = b.version + 1 WHERE b.userId = :userId")
+    int increment(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE BoardVersion b SET b.version = b.version + 1"
+            + " WHERE b.userId = (SELECT u.id FROM User u WHERE u.email = :email)")
+    int incrementByEmail(@Param("email") String email);
+
+    @Query("SELECT b.version FROM BoardVersion b WHERE b.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+}
@@ -1,10 +1,151 @@
 package com.example.kanban.repository;
 
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskStatusCountDto;
 import com.example.kanban.entity.Task;
+import com.example.kanban.entity.TaskStatus;
 import com.example.kanban.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    /**
+     * 엔티티를 거치지 않고 TaskDto 로 바로 조회한다. 작성자 이름은 join 으로 함께 가져오므로
+     * User 프록시 초기화나 영속성 컨텍스트 스냅샷이 생기지 않는다.
+     */
+    String TASK_DTO_SELECT = "SELECT new com.example.kanban.dto.TaskDto("
+            + "t.id, t.title, t.description, t.status, t.order, u.name, t.createdAt)"
+            + " FROM Task t JOIN t.user u";
+
+    /**
+     * 한 사용자의 보드처럼 작성자가 정해져 있는 조회용. users 를 join 하지 않으며 creatorName 은 호출자가 채운다.
+     */
+    String OWNED_TASK_DTO_SELECT = "SELECT new com.example.kanban.dto.TaskDto("
+            + "t.id, t.title, t.description, t.status, t.order, t.createdAt)"
+            + " FROM Task t";
+
     List<Task> findAllByUserOrderByOrderAsc(User user);
+
+    List<Task> findAllByUserOrderByOrderAscIdAsc(User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(TASK_DTO_SELECT + " WHERE t.user = :user AND t.updatedAt >= :since ORDER BY t.updatedAt ASC, t.id ASC")
+    List<TaskDto> findChangedSince(@Param("user") User user, @Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(TASK_DTO_SELECT + " WHERE t.id = :id")
+    Optional<TaskDto> findDtoById(@Param("id") Long id);
+
+    /**
+     * 소유자 조건을 WHERE 절에 넣어 한 문장으로 수정한다. null 인 필드는 기존 값을 유지하며,
+     * 벌크 UPDATE 는 @PreUpdate 를 거치지 않으므로 updatedAt 을 직접 넘긴다. 순서는 TaskRankService 로만 바꾼다.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.title = COALESCE(:title, t.title),"
+            + " t.description = COALESCE(:description, t.description),"
+            + " t.status = COALESCE(:status, t.status),"
+            + " t.updatedAt = :updatedAt"
+            + " WHERE t.id = :id AND t.user.id = (SELECT u.id FROM User u WHERE u.email = :email)")
+    int updateOwnedTask(@Param("id") Long id, @Param("email") String email, @Param("title") String title,
+            @Param("description") String description, @Param("status") TaskStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :id AND t.user.id = :userId")
+    int deleteOwnedTask(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT MAX(t.order) FROM Task t WHERE t.user = :user")
+    Long findMaxOrder(@Param("user") User user);
+
+    @Query("SELECT MAX(t.order) FROM Task t WHERE t.user = :user AND t.id <> :excludedId")
+    Long findMaxOrderExcluding(@Param("user") User user, @Param("excludedId") Long excludedId);
+
+    @Query("SELECT MIN(t.order) FROM Task t WHERE t.user = :user AND t.order > :order AND t.id <> :excludedId")
+    Long findNextOrder(@Param("user") User user, @Param("order") Long order, @Param("excludedId") Long excludedId);
+
+    @Query("SELECT MAX(t.order) FROM Task t WHERE t.user = :user AND t.order < :order AND t.id <> :excludedId")
+    Long findPreviousOrder(@Param("user") User user, @Param("order") Long order,
+            @Param("excludedId") Long excludedId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.user = :user AND t.order <= :order AND t.id <> :excludedId"
+            + " ORDER BY t.order DESC, t.id DESC")
+    List<Long> findIdsAtOrBeforeOrder(@Param("user") User user, @Param("order") Long order,
+            @Param("excludedId") Long excludedId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.user = :user AND t.id <> :excludedId ORDER BY t.order ASC, t.id ASC")
+    List<Long> findIdsInOrderExcluding(@Param("user") User user, @Param("excludedId") Long excludedId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.user = :user AND t.status = :status"
+            + " AND t.order > :lower AND t.order < :upper AND t.id <> :excludedId")
+    long countInColumnBetween(@Param("user") User user, @Param("status") TaskStatus status,
+            @Param("lower") Long lower, @Param("upper") Long upper, @Param("excludedId") Long excludedId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(OWNED_TASK_DTO_SELECT + " WHERE t.user.id = :userId ORDER BY t.order ASC, t.id ASC")
+    List<TaskDto> findBoardByUserId(@Param("userId") Long userId);
+
+    /**
+     * 내보내기용. 결과를 fetch size 단위로 끌어오므로 호출자는 읽기 전용 트랜잭션 안에서 스트림을 닫을 때까지 소비해야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(OWNED_TASK_DTO_SELECT + " WHERE t.user.id = :userId ORDER BY t.order ASC, t.id ASC")
+    Stream<TaskDto> streamBoardByUserId(@Param("userId") Long userId);
+
+    /**
+     * 상태별 태스크 수. (user_id, status, task_order, id) 인덱스만 읽고 끝난다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("SELECT new com.example.kanban.dto.TaskStatusCountDto(t.status, COUNT(t))"
+            + " FROM Task t WHERE t.user.id = :userId GROUP BY t.status")
+    List<TaskStatusCountDto> countByStatus(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(OWNED_TASK_DTO_SELECT + " WHERE t.user.id = :userId AND t.status = :status"
+            + " ORDER BY t.order ASC, t.id ASC")
+    List<TaskDto> findColumnByUserId(@Param("userId") Long userId, @Param("status") TaskStatus status,
+            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(OWNED_TASK_DTO_SELECT + " WHERE t.user.id = :userId AND t.id IN :ids")
+    List<TaskDto> findOwnedByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(TASK_DTO_SELECT + " WHERE u.email = :email ORDER BY t.order ASC, t.id ASC")
+    List<TaskDto> findFirstPage(@Param("email") String email, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(TASK_DTO_SELECT + " WHERE u.email = :email"
+            + " AND (t.order > :order OR (t.order = :order AND t.id > :id))"
+            + " ORDER BY t.order ASC, t.id ASC")
+    List<TaskDto> findPageAfter(@Param("email") String email, @Param("order") Long order, @Param("id") Long id,
+            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(TASK_DTO_SELECT + " WHERE u.email = :email AND t.status = :status ORDER BY t.order ASC, t.id ASC")
+    List<TaskDto> findFirstPageByStatus(@Param("email") String email, @Param("status") TaskStatus status,
+            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query(TASK_DTO_SELECT + " WHERE u.email = :email AND t.status = :status"
+            + " AND (t.order > :order OR (t.order = :order AND t.id > :id))"
+            + " ORDER BY t.order ASC, t.id ASC")
+    List<TaskDto> findPageAfterByStatus(@Param("email") String email, @Param("status") TaskStatus status,
+            @Param("order") Long order, @Param("id") Long id, Pageable pageable);
 }
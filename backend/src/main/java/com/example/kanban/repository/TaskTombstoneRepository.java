@@ -0,0 +1,19 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.entity.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+    @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.userId = :userId AND t.deletedAt >= :since")
+    List<Long> findDeletedTaskIds(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,13 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.entity.User;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+
+    /**
+     * 이메일(자연 키)로 사용자를 찾는다. 자연 키 캐시와 엔티티 캐시에 모두 있으면 쿼리를 실행하지 않는다.
+     */
+    Optional<User> findByNaturalEmail(String email);
+}
@@ -0,0 +1,24 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 트랜잭션 밖(인증 필터)에서 호출되어도 세션이 메서드가 끝날 때까지 열려 있도록 읽기 전용 트랜잭션을 건다.
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByNaturalEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
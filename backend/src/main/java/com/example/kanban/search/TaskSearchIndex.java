@@ -0,0 +1,260 @@
+package com.example.kanban.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.kanban.dto.TaskDto;
+
+/**
+ * 한 사용자의 태스크 제목과 설명에 대한 역색인. 검색 결과는 BM25 점수 순이다.
+ * <p>
+ * 문서는 추가 순서대로 내부 번호를 받고, 용어마다 (문서 번호, 빈도) 를 int 배열에 쌓는다.
+ * 수정은 기존 문서를 지우고 새 번호로 다시 넣는 방식이며, 지운 문서는 표시만 해 두었다가
+ * 전체의 1/4 을 넘으면 한꺼번에 압축한다. 제목의 용어는 설명보다 두 배의 빈도로 센다.
+ */
+public class TaskSearchIndex implements UserTaskIndex {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    static final int TITLE_WEIGHT = 2;
+
+    public record Hit(long taskId, float score) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Long, Integer> docByTaskId = new HashMap<>();
+    private final BitSet alive = new BitSet();
+    private long[] taskIds = new long[16];
+    private int[] lengths = new int[16];
+    private int docCount;
+    private long totalLength;
+
+    @Override
+    public void upsert(TaskDto task) {
+        upsert(task.getId(), task.getTitle(), task.getDescription());
+    }
+
+    public void upsert(long taskId, String title, String description) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : TaskTokenizer.tokenize(title)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : TaskTokenizer.tokenize(description)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = 0;
+        for (int frequency : frequencies.values()) {
+            length += frequency;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+            int doc = docCount++;
+            if (doc == taskIds.length) {
+                taskIds = Arrays.copyOf(taskIds, doc * 2);
+                lengths = Arrays.copyOf(lengths, doc * 2);
+            }
+            taskIds[doc] = taskId;
+            lengths[doc] = length;
+            alive.set(doc);
+            docByTaskId.put(taskId, doc);
+            totalLength += length;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new Posting()).add(doc, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = TaskTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocs = docByTaskId.size();
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            float averageLength = Math.max(1f, (float) totalLength / liveDocs);
+            float[] scores = new float[docCount];
+            int[] matched = new int[16];
+            int matchedCount = 0;
+
+            for (String term : terms) {
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int df = posting.liveCount(alive);
+                if (df == 0) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < posting.size; i++) {
+                    int doc = posting.docs[i];
+                    if (!alive.get(doc)) {
+                        continue;
+                    }
+                    float tf = posting.frequencies[i];
+                    float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    if (scores[doc] == 0) {
+                        if (matchedCount == matched.length) {
+                            matched = Arrays.copyOf(matched, matchedCount * 2);
+                        }
+                        matched[matchedCount++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+            return top(scores, matched, matchedCount, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int weight() {
+        return size();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByTaskId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> top(float[] scores, int[] matched, int matchedCount, int limit) {
+        // 점수가 같으면 나중에 만든(ID 가 큰) 태스크를 앞에 둔다.
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, TaskSearchIndex::compareRank);
+        for (int i = 0; i < matchedCount; i++) {
+            int doc = matched[i];
+            if (heap.size() < limit) {
+                heap.add(new Hit(taskIds[doc], scores[doc]));
+                continue;
+            }
+            Hit lowest = heap.peek();
+            if (scores[doc] > lowest.score() || (scores[doc] == lowest.score() && taskIds[doc] > lowest.taskId())) {
+                heap.poll();
+                heap.add(new Hit(taskIds[doc], scores[doc]));
+            }
+        }
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort((left, right) -> compareRank(right, left));
+        return hits;
+    }
+
+    private static int compareRank(Hit left, Hit right) {
+        int byScore = Float.compare(left.score(), right.score());
+        return byScore != 0 ? byScore : Long.compare(left.taskId(), right.taskId());
+    }
+
+    private void removeLocked(long taskId) {
+        Integer doc = docByTaskId.remove(taskId);
+        if (doc == null) {
+            return;
+        }
+        alive.clear(doc);
+        totalLength -= lengths[doc];
+        if (docCount >= 64 && docCount - docByTaskId.size() > docCount / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * 지운 문서를 posting 에서 걷어내고 살아 있는 문서에 0 부터 번호를 다시 매긴다.
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (alive.get(doc)) {
+                remap[doc] = next;
+                taskIds[next] = taskIds[doc];
+                lengths[next] = lengths[doc];
+                docByTaskId.put(taskIds[next], next);
+                next++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+        postings.values().removeIf(posting -> posting.compact(remap));
+        alive.clear();
+        alive.set(0, next);
+        docCount = next;
+    }
+
+    private static final class Posting {
+
+        private int[] docs = new int[2];
+        private int[] frequencies = new int[2];
+        private int size;
+
+        private void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private int liveCount(BitSet alive) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (alive.get(docs[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * @return 남은 문서가 없으면 true
+         */
+        private boolean compact(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[next] = doc;
+                    frequencies[next] = frequencies[i];
+                    next++;
+                }
+            }
+            size = next;
+            if (size > 0 && size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, size);
+                frequencies = Arrays.copyOf(frequencies, size);
+            }
+            return size == 0;
+        }
+    }
+}
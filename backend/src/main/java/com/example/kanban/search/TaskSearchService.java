@@ -0,0 +1,106 @@
+package com.example.kanban.search;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.entity.User;
+import com.example.kanban.event.TaskChangedEvent;
+import com.example.kanban.event.TasksBatchUpdatedEvent;
+import com.example.kanban.event.TasksImportedEvent;
+import com.example.kanban.exception.InvalidRequestException;
+import com.example.kanban.repository.TaskRepository;
+import com.example.kanban.repository.UserRepository;
+
+/**
+ * 사용자별 TaskSearchIndex 로 제목과 설명을 검색한다. 색인의 생성, 갱신, 상한은 UserTaskIndexCache 가 맡는다.
+ * 전체 문서 수는 max-documents 로 제한한다.
+ */
+@Service
+public class TaskSearchService {
+
+    static final int DEFAULT_LIMIT = 20;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final UserTaskIndexCache<TaskSearchIndex> indexes;
+    private final int maxResults;
+
+    public TaskSearchService(
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${search.max-documents:2000000}") long maxDocuments,
+            @Value("${search.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${search.max-results:100}") int maxResults) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.maxResults = maxResults;
+        this.indexes = new UserTaskIndexCache<>("search", TaskSearchService::build, taskRepository, userRepository,
+                transactionManager, maxDocuments, idleTimeout);
+    }
+
+    /**
+     * @return BM25 점수가 높은 순의 태스크
+     */
+    public List<TaskDto> search(String username, String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해 주세요.");
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, maxResults);
+        List<TaskSearchIndex.Hit> hits = indexes.get(username).search(query, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        User user = userRepository.findByNaturalEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        Map<Long, TaskDto> tasks = new HashMap<>();
+        for (TaskDto task : taskRepository.findOwnedByIds(user.getId(),
+                hits.stream().map(TaskSearchIndex.Hit::taskId).toList())) {
+            task.setCreatorName(user.getName());
+            tasks.put(task.getId(), task);
+        }
+        // 색인 갱신보다 먼저 지워진 태스크는 조회되지 않으므로 걸러낸다.
+        return hits.stream()
+                .map(hit -> tasks.get(hit.taskId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        indexes.apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        // 수만 건을 하나씩 반영하기보다 다음 검색에서 새로 만드는 편이 싸다.
+        indexes.invalidate(event.username());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBatchUpdated(TasksBatchUpdatedEvent event) {
+        indexes.invalidate(event.username());
+    }
+
+    public UserTaskIndexCache<TaskSearchIndex> indexCache() {
+        return indexes;
+    }
+
+    private static TaskSearchIndex build(Stream<TaskDto> tasks) {
+        TaskSearchIndex index = new TaskSearchIndex();
+        tasks.forEach(index::upsert);
+        return index;
+    }
+}
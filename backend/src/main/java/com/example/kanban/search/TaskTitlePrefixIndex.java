@@ -0,0 +1,387 @@
+package com.example.kanban.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskSuggestionDto;
+import com.example.kanban.entity.TaskStatus;
+
+/**
+ * 한 사용자의 태스크 제목에 대한 접두사 색인. "jump to card" 입력창의 자동완성용이다.
+ * <p>
+ * 정규화한 제목에서 단어가 시작하는 위치마다 항목 하나를 두고, 항목을 그 위치부터의 문자열 순으로 정렬한
+ * 배열에 보관한다. 문자열을 잘라 복사하지 않고 (태스크, 시작 위치) 만 저장하므로 "서버 점검" 은 항목 두 개지만
+ * 문자열은 하나다. 접두사 검색은 이진 탐색으로 범위의 시작을 찾고 범위를 훑으며 최근에 만든(ID 가 큰)
+ * 태스크 limit 개를 고른다.
+ * <p>
+ * 큰 배열 중간에 끼워 넣지 않도록 새 항목은 작은 정렬 배열(delta)에 넣고, 수정/삭제로 낡은 항목은
+ * 그대로 두었다가 검색 때 건너뛴다. delta 가 차거나 낡은 항목이 1/4 을 넘으면 두 배열을 한 번에 병합한다.
+ */
+public class TaskTitlePrefixIndex implements UserTaskIndex {
+
+    static final int MAX_WORD_STARTS = 8;
+    static final int MIN_DELTA_CAPACITY = 1024;
+
+    /**
+     * 항목은 태스크의 Suggestion 을 가리킨다. 제목이 바뀌거나 삭제되면 stale 로 표시해 이전 항목을 무효로 만든다.
+     */
+    private static final class Suggestion {
+
+        private final long id;
+        private final String normalized;
+        private String title;
+        private TaskStatus status;
+        private boolean stale;
+
+        private Suggestion(long id, String title, TaskStatus status) {
+            this.id = id;
+            this.normalized = normalize(title);
+            this.title = title;
+            this.status = status;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Suggestion> tasks = new HashMap<>();
+    private Entries main = new Entries(16);
+    private Entries delta = new Entries(16);
+    private int staleEntries;
+
+    /**
+     * 보드 전체로 색인을 만든다. 항목을 모아 한 번 정렬하므로 하나씩 upsert 하는 것보다 빠르다.
+     */
+    public static TaskTitlePrefixIndex of(Iterable<TaskSuggestionDto> suggestions) {
+        TaskTitlePrefixIndex index = new TaskTitlePrefixIndex();
+        Entries entries = new Entries(1024);
+        for (TaskSuggestionDto suggestion : suggestions) {
+            Suggestion task = new Suggestion(suggestion.getId(), suggestion.getTitle(), suggestion.getStatus());
+            index.replace(task);
+            for (int offset : wordStarts(task.normalized)) {
+                entries.append(task, offset);
+            }
+        }
+        entries.sort();
+        index.main = entries;
+        return index;
+    }
+
+    @Override
+    public void upsert(TaskDto task) {
+        upsert(task.getId(), task.getTitle(), task.getStatus());
+    }
+
+    public void upsert(long taskId, String title, TaskStatus status) {
+        Suggestion task = new Suggestion(taskId, title, status);
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = tasks.get(taskId);
+            if (previous != null && previous.normalized.equals(task.normalized)) {
+                // 정규화한 제목이 그대로인 이동/상태 변경은 항목을 건드리지 않는다.
+                previous.title = title;
+                previous.status = status;
+                return;
+            }
+            replace(task);
+            for (int offset : wordStarts(task.normalized)) {
+                delta.insert(task, offset);
+            }
+            mergeIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = tasks.remove(taskId);
+            if (previous != null) {
+                retire(previous);
+                mergeIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 제목의 어느 단어든 prefix 로 시작하는 태스크를 최근에 만든 순으로 최대 limit 개
+     */
+    public List<TaskSuggestionDto> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] best = new long[limit];
+            int count = collect(main, normalized, best, 0);
+            count = collect(delta, normalized, best, count);
+            List<TaskSuggestionDto> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Suggestion task = tasks.get(best[i]);
+                suggestions.add(TaskSuggestionDto.builder()
+                        .id(task.id)
+                        .title(task.title)
+                        .status(task.status)
+                        .build());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tasks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int weight() {
+        return entryCount();
+    }
+
+    /**
+     * 낡은 항목을 포함한 항목 수. 메모리 사용량은 대략 이 값에 비례한다.
+     */
+    public int entryCount() {
+        lock.readLock().lock();
+        try {
+            return main.size + delta.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * NFKC, 소문자, 연속 공백을 하나로 줄이고 앞뒤 공백 제거.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return TaskTokenizer.normalize(text).strip().replaceAll("\\s+", " ");
+    }
+
+    static int[] wordStarts(String normalized) {
+        int[] starts = new int[MAX_WORD_STARTS];
+        int count = 0;
+        for (int i = 0; i < normalized.length() && count < MAX_WORD_STARTS; i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                starts[count++] = i;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    private void replace(Suggestion task) {
+        Suggestion previous = tasks.put(task.id, task);
+        if (previous != null) {
+            retire(previous);
+        }
+    }
+
+    private void retire(Suggestion task) {
+        task.stale = true;
+        staleEntries += wordStarts(task.normalized).length;
+    }
+
+    private static int collect(Entries entries, String prefix, long[] best, int count) {
+        // 범위 안의 항목은 모두 prefix 로 시작하므로 문자열을 다시 보지 않고 ID 배열만 훑는다.
+        // 순위에 들 수 있는 후보일 때만 Suggestion 을 따라가 낡은 항목인지 확인한다.
+        int end = entries.upperBound(prefix);
+        for (int i = entries.lowerBound(prefix, 0); i < end; i++) {
+            long id = entries.ids[i];
+            if ((count < best.length || id > best[count - 1]) && !entries.tasks[i].stale) {
+                count = offer(best, count, id);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * best 를 ID 내림차순으로 유지한다. 한 태스크가 여러 단어로 걸려도 한 번만 넣는다.
+     */
+    private static int offer(long[] best, int count, long id) {
+        int position = count;
+        while (position > 0 && best[position - 1] <= id) {
+            if (best[position - 1] == id) {
+                return count;
+            }
+            position--;
+        }
+        int moved = Math.min(count, best.length - 1) - position;
+        System.arraycopy(best, position, best, position + 1, moved);
+        best[position] = id;
+        return Math.min(count + 1, best.length);
+    }
+
+    private void mergeIfNeeded() {
+        int total = main.size + delta.size;
+        if (delta.size < Math.max(MIN_DELTA_CAPACITY, main.size / 16) && staleEntries <= total / 4) {
+            return;
+        }
+        Entries merged = new Entries(Math.max(16, total - staleEntries));
+        int left = 0;
+        int right = 0;
+        while (left < main.size || right < delta.size) {
+            boolean takeMain = right == delta.size || (left < main.size
+                    && compare(main.tasks[left].normalized, main.offsets[left],
+                    delta.tasks[right].normalized, delta.offsets[right]) <= 0);
+            Entries source = takeMain ? main : delta;
+            int i = takeMain ? left++ : right++;
+            if (!source.tasks[i].stale) {
+                merged.append(source.tasks[i], source.offsets[i]);
+            }
+        }
+        main = merged;
+        delta = new Entries(16);
+        staleEntries = 0;
+    }
+
+    private static int compare(String left, int leftOffset, String right, int rightOffset) {
+        int leftLength = left.length() - leftOffset;
+        int rightLength = right.length() - rightOffset;
+        int length = Math.min(leftLength, rightLength);
+        for (int i = 0; i < length; i++) {
+            char l = left.charAt(leftOffset + i);
+            char r = right.charAt(rightOffset + i);
+            if (l != r) {
+                return l - r;
+            }
+        }
+        return leftLength - rightLength;
+    }
+
+    /**
+     * offset 이후 문자열을 prefix 길이까지만 비교한다. prefix 로 시작하면 0.
+     */
+    private static int comparePrefix(String text, int offset, String prefix) {
+        int textLength = text.length() - offset;
+        int length = Math.min(textLength, prefix.length());
+        for (int i = 0; i < length; i++) {
+            char t = text.charAt(offset + i);
+            char p = prefix.charAt(i);
+            if (t != p) {
+                return t - p;
+            }
+        }
+        return textLength < prefix.length() ? -1 : 0;
+    }
+
+    /**
+     * (태스크, 제목 안의 시작 위치) 를 시작 위치 이후 문자열 순으로 담는 병렬 배열.
+     * 태스크 ID 는 범위를 훑을 때 객체를 따라가지 않도록 따로 둔다.
+     */
+    private static final class Entries {
+
+        private Suggestion[] tasks;
+        private int[] offsets;
+        private long[] ids;
+        private int size;
+
+        private Entries(int capacity) {
+            tasks = new Suggestion[capacity];
+            offsets = new int[capacity];
+            ids = new long[capacity];
+        }
+
+        private void append(Suggestion task, int offset) {
+            ensureCapacity();
+            tasks[size] = task;
+            offsets[size] = offset;
+            ids[size] = task.id;
+            size++;
+        }
+
+        private void insert(Suggestion task, int offset) {
+            ensureCapacity();
+            int position = lowerBound(task.normalized, offset);
+            int moved = size - position;
+            System.arraycopy(tasks, position, tasks, position + 1, moved);
+            System.arraycopy(offsets, position, offsets, position + 1, moved);
+            System.arraycopy(ids, position, ids, position + 1, moved);
+            tasks[position] = task;
+            offsets[position] = offset;
+            ids[position] = task.id;
+            size++;
+        }
+
+        private void ensureCapacity() {
+            if (size == tasks.length) {
+                tasks = Arrays.copyOf(tasks, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+
+        private void sort() {
+            // 비교할 때마다 문자열을 자르지 않도록 키를 한 번만 만들어 정렬한 뒤 버린다.
+            String[] keys = new String[size];
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = tasks[i].normalized.substring(offsets[i]);
+                order[i] = i;
+            }
+            Arrays.sort(order, (left, right) -> keys[left].compareTo(keys[right]));
+            Suggestion[] sortedTasks = new Suggestion[tasks.length];
+            int[] sortedOffsets = new int[tasks.length];
+            long[] sortedIds = new long[tasks.length];
+            for (int i = 0; i < size; i++) {
+                sortedTasks[i] = tasks[order[i]];
+                sortedOffsets[i] = offsets[order[i]];
+                sortedIds[i] = ids[order[i]];
+            }
+            tasks = sortedTasks;
+            offsets = sortedOffsets;
+            ids = sortedIds;
+        }
+
+        /**
+         * @return text 의 offset 이후 문자열보다 작지 않은 첫 항목의 위치
+         */
+        private int lowerBound(String text, int offset) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(tasks[middle].normalized, offsets[middle], text, offset) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return prefix 로 시작하는 항목 범위의 끝(다음 위치)
+         */
+        private int upperBound(String prefix) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparePrefix(tasks[middle].normalized, offsets[middle], prefix) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.kanban.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저. 형태소 분석기 없이 한국어와 영어를 함께 다룬다.
+ * <ul>
+ *     <li>영문자/숫자 연속은 소문자 단어 하나</li>
+ *     <li>한글 연속은 음절 바이그램(한 음절이면 그 음절). "회의를", "회의에서" 처럼 조사가 붙어도 "회의" 가 공통으로 남는다.</li>
+ *     <li>그 밖의 문자는 구분자</li>
+ * </ul>
+ * 색인과 질의에 같은 규칙을 쓴다.
+ */
+public final class TaskTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private TaskTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = normalize(text);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                addBigrams(normalized, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i))
+                        && !isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                if (i - start <= MAX_TOKEN_LENGTH) {
+                    tokens.add(normalized.substring(start, i));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 전각/반각과 대소문자 차이를 없앤다. 검색과 자동완성이 같은 규칙으로 비교하도록 공유한다.
+     */
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
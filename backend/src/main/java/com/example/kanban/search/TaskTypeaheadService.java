@@ -0,0 +1,82 @@
+package com.example.kanban.search;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskSuggestionDto;
+import com.example.kanban.event.TaskChangedEvent;
+import com.example.kanban.event.TasksBatchUpdatedEvent;
+import com.example.kanban.event.TasksImportedEvent;
+import com.example.kanban.repository.TaskRepository;
+import com.example.kanban.repository.UserRepository;
+
+/**
+ * 사용자별 TaskTitlePrefixIndex 로 제목 자동완성을 제공한다. 키 입력마다 호출되므로 데이터베이스를 거치지 않는다.
+ * 색인은 TaskSearchService 와 같은 UserTaskIndexCache 로 관리하며, 전체 항목 수는 max-entries 로 제한한다.
+ */
+@Service
+public class TaskTypeaheadService {
+
+    static final int DEFAULT_LIMIT = 10;
+
+    private final UserTaskIndexCache<TaskTitlePrefixIndex> indexes;
+    private final int maxResults;
+
+    public TaskTypeaheadService(
+            TaskRepository taskRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${typeahead.max-entries:4000000}") long maxEntries,
+            @Value("${typeahead.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${typeahead.max-results:50}") int maxResults) {
+        this.maxResults = maxResults;
+        this.indexes = new UserTaskIndexCache<>("typeahead", TaskTypeaheadService::build, taskRepository,
+                userRepository, transactionManager, maxEntries, idleTimeout);
+    }
+
+    /**
+     * @return 제목의 단어가 prefix 로 시작하는 태스크를 최근에 만든 순으로
+     */
+    public List<TaskSuggestionDto> suggest(String username, String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, maxResults);
+        return indexes.get(username).suggest(prefix, size);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        indexes.apply(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        indexes.invalidate(event.username());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBatchUpdated(TasksBatchUpdatedEvent event) {
+        indexes.invalidate(event.username());
+    }
+
+    public UserTaskIndexCache<TaskTitlePrefixIndex> indexCache() {
+        return indexes;
+    }
+
+    private static TaskTitlePrefixIndex build(Stream<TaskDto> tasks) {
+        Stream<TaskSuggestionDto> suggestions = tasks.map(task -> TaskSuggestionDto.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .build());
+        return TaskTitlePrefixIndex.of(suggestions::iterator);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.kanban.search;
+
+import com.example.kanban.dto.TaskDto;
+
+/**
+ * UserTaskIndexCache 가 커밋된 태스크 변경을 반영할 수 있는 사용자별 색인.
+ */
+interface UserTaskIndex {
+
+    void upsert(TaskDto task);
+
+    void remove(long taskId);
+
+    /**
+     * 캐시 전체 상한에 대한 이 색인의 몫. 메모리 사용량에 비례하는 값이어야 한다.
+     */
+    int weight();
+}
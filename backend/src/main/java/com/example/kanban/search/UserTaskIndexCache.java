@@ -0,0 +1,112 @@
+package com.example.kanban.search;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.event.TaskChangedEvent;
+import com.example.kanban.repository.TaskRepository;
+import com.example.kanban.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 색인을 메모리에 두는 캐시. TaskSearchService 와 TaskTypeaheadService 가 함께 쓴다.
+ * <p>
+ * 색인은 처음 요청할 때 보드를 한 번 스트리밍해 만들고, 이후에는 커밋된 TaskChangedEvent 로 갱신한다.
+ * 색인이 없는 사용자의 이벤트는 버린다. 다음 요청에서 새로 만들면 되기 때문이다.
+ * 색인 무게(UserTaskIndex#weight)의 합이 maxWeight 를 넘거나 idleTimeout 동안 쓰지 않은 사용자의 색인은 내려간다.
+ */
+@Slf4j
+public class UserTaskIndexCache<I extends UserTaskIndex> {
+
+    private final String name;
+    private final Function<Stream<TaskDto>, I> builder;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, I> indexes;
+
+    UserTaskIndexCache(String name, Function<Stream<TaskDto>, I> builder, TaskRepository taskRepository,
+            UserRepository userRepository, PlatformTransactionManager transactionManager,
+            long maxWeight, Duration idleTimeout) {
+        this.name = name;
+        this.builder = builder;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        // 복제본 지연 때문에 방금 커밋된 변경을 빠뜨린 채 색인을 만들지 않도록 읽기 전용으로 표시하지 않는다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String username, I index) -> index.weight() + 1)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+    }
+
+    I get(String username) {
+        return indexes.get(username, this::build);
+    }
+
+    /**
+     * 색인을 만드는 동안 같은 사용자의 이벤트는 Caffeine 이 잡은 키 잠금에서 기다렸다가 완성된 색인에 반영된다.
+     * 그 전에 커밋된 변경은 스트리밍 조회에 이미 들어 있으며, upsert 는 같은 내용을 여러 번 넣어도 결과가 같다.
+     * compute 로 반영하므로 바뀐 무게도 다시 잰다.
+     */
+    void apply(TaskChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> indexes.asMap().computeIfPresent(event.username(), (username, index) -> {
+                index.upsert(event.task());
+                return index;
+            });
+            case DELETED -> indexes.asMap().computeIfPresent(event.username(), (username, index) -> {
+                index.remove(event.taskId());
+                return index;
+            });
+            default -> {
+            }
+        }
+    }
+
+    void invalidate(String username) {
+        indexes.invalidate(username);
+    }
+
+    public long indexCount() {
+        return indexes.estimatedSize();
+    }
+
+    public long hitCount() {
+        return indexes.stats().hitCount();
+    }
+
+    public long missCount() {
+        return indexes.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return indexes.stats().evictionCount();
+    }
+
+    private I build(String username) {
+        long startedAt = System.nanoTime();
+        I index = transactionTemplate.execute(status -> {
+            Long userId = userRepository.findByNaturalEmail(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."))
+                    .getId();
+            try (Stream<TaskDto> tasks = taskRepository.streamBoardByUserId(userId)) {
+                return builder.apply(tasks);
+            }
+        });
+        log.debug("Built {} index for {} with weight {} in {} ms",
+                name, username, index.weight(), (System.nanoTime() - startedAt) / 1_000_000);
+        return index;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.kanban.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 하드웨어에서 한 번의 해시가 지연 예산 안에 끝나는 가장 높은 BCrypt 강도를 찾는다.
+ * 강도가 1 오를 때마다 비용이 두 배가 되므로 최소 강도부터 차례로 측정하다 예산을 넘으면 멈춘다.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration latencyBudget, int minStrength, int maxStrength) {
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsed = measure(strength);
+            if (elapsed > latencyBudget.toNanos()) {
+                break;
+            }
+            chosen = strength;
+            // 다음 강도는 대략 두 배가 걸리므로 예산을 넘을 것이 확실하면 측정하지 않는다.
+            if (elapsed * 2 > latencyBudget.toNanos()) {
+                break;
+            }
+        }
+        log.info("Calibrated BCrypt strength {} for a {} ms hashing budget", chosen, latencyBudget.toMillis());
+        return chosen;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        // 첫 호출은 JIT 워밍업과 SecureRandom 초기화 비용이 섞이므로 버린다.
+        encoder.encode(SAMPLE_PASSWORD);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.kanban.security;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,10 +25,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+    private final Timer successTimer;
+    private final Timer unauthorizedTimer;
+    private final Timer notFoundTimer;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsService userDetailsService,
+            TokenRevocationList tokenRevocationList, MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.successTimer = authenticationTimer(meterRegistry, "success");
+        this.unauthorizedTimer = authenticationTimer(meterRegistry, "unauthorized");
+        this.notFoundTimer = authenticationTimer(meterRegistry, "not-found");
     }
 
     @Override
@@ -40,23 +54,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
+        long start = System.nanoTime();
+        Timer outcome = successTimer;
         try {
-            username = jwtTokenProvider.extractUsername(jwt);
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Claims claims = jwtTokenProvider.validateToken(jwt);
+            username = claims.getSubject();
+            if (tokenRevocationList.isRevoked(claims.getId())) {
+                outcome = unauthorizedTimer;
+            } else if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-                if (jwtTokenProvider.isTokenValid(jwt, userDetails)) {
+                if (jwtTokenProvider.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
                             userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                } else {
+                    outcome = unauthorizedTimer;
                 }
             }
+        } catch (UsernameNotFoundException e) {
+            outcome = notFoundTimer;
         } catch (Exception e) {
-            //
+            outcome = unauthorizedTimer;
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private static Timer authenticationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("kanban.auth.filter")
+                .description("JWT authentication latency in the security filter chain")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,67 @@
+package com.example.kanban.security;
+
+import com.example.kanban.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증 필터가 매 요청마다 조회하는 사용자(principal)를 이메일 기준으로 캐시한다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final boolean enabled;
+    private final Cache<String, User> cache;
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.enabled:true}") boolean enabled,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public User get(String email, Function<String, User> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return cache.get(email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.kanban.security;
+
+import com.example.kanban.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PrincipalCacheInvalidationListener {
+
+    private final PrincipalCache principalCache;
+
+    public PrincipalCacheInvalidationListener(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String email = user.getEmail();
+        principalCache.invalidate(email);
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 비운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidate(email);
+                }
+            });
+        }
+    }
+}
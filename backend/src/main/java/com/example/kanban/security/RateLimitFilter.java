@@ -0,0 +1,118 @@
+package com.example.kanban.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.kanban.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * /api/auth/** 는 클라이언트 IP, /api/tasks/** 는 인증된 이메일 기준으로 요청 수를 제한한다.
+ * JWT 필터 뒤에 두어 태스크 API 는 인증 결과를 키로 쓸 수 있게 한다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PREFIX = "/api/auth/";
+    private static final String TASKS_PREFIX = "/api/tasks";
+
+    private final boolean enabled;
+    private final RateLimiter authLimiter;
+    private final RateLimiter taskLimiter;
+    private final ObjectMapper objectMapper;
+    private final Counter authRejected;
+    private final Counter taskRejected;
+
+    public RateLimitFilter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.auth.capacity:10}") int authCapacity,
+            @Value("${rate-limit.auth.refill-per-second:1}") double authRefillPerSecond,
+            @Value("${rate-limit.tasks.capacity:100}") int taskCapacity,
+            @Value("${rate-limit.tasks.refill-per-second:50}") double taskRefillPerSecond,
+            @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${rate-limit.max-keys:100000}") long maxKeys,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.authLimiter = new RateLimiter(authCapacity, authRefillPerSecond, idleTimeout, maxKeys);
+        this.taskLimiter = new RateLimiter(taskCapacity, taskRefillPerSecond, idleTimeout, maxKeys);
+        this.objectMapper = objectMapper;
+        this.authRejected = rejectedCounter(meterRegistry, "auth");
+        this.taskRejected = rejectedCounter(meterRegistry, "tasks");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        long waitNanos = 0;
+        if (path.startsWith(AUTH_PREFIX)) {
+            waitNanos = authLimiter.tryAcquire(request.getRemoteAddr());
+            if (waitNanos > 0) {
+                authRejected.increment();
+            }
+        } else if (path.startsWith(TASKS_PREFIX)) {
+            waitNanos = taskLimiter.tryAcquire(clientKey(request));
+            if (waitNanos > 0) {
+                taskRejected.increment();
+            }
+        }
+
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            return authentication.getName();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+                .build());
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("kanban.ratelimit.rejected")
+                .description("Requests rejected by the per-client rate limiter")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.kanban.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷. 버킷 상태를 "다음 토큰이 생기는 이론적 시각" 하나의 long 으로 표현(GCRA)하므로
+ * 잠금 없이 CAS 한 번으로 토큰을 꺼내고, 요청마다 객체를 만들지 않는다.
+ * 한동안 요청이 없던 키의 버킷은 가득 찬 상태와 같으므로 캐시 만료로 그냥 버린다.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final Cache<String, AtomicLong> buckets;
+    private final Function<String, AtomicLong> newBucket;
+
+    public RateLimiter(int capacity, double refillPerSecond, Duration idleTimeout, long maxKeys) {
+        this(capacity, refillPerSecond, idleTimeout, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int capacity, double refillPerSecond, Duration idleTimeout, long maxKeys, LongSupplier clock) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxKeys)
+                .build();
+        this.newBucket = ignored -> new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다. 0 이면 허용이고, 양수면 다음 토큰이 생길 때까지 남은 나노초다.
+     */
+    public long tryAcquire(String key) {
+        AtomicLong theoreticalArrival = buckets.get(key, newBucket);
+        long now = clock.getAsLong();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = (current - now < 0 ? now : current) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.kanban.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃한 액세스 토큰의 jti 목록. 매 요청의 확인은 블룸 필터 비트 몇 개를 읽는 것으로 끝나며,
+ * 블룸 필터가 "있을 수도 있다"고 답한 경우에만 정확한 맵을 조회한다.
+ * 항목은 토큰 만료 시각까지만 필요하므로 주기적으로 만료된 항목을 지우고 필터를 다시 만든다.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final int HASH_FUNCTIONS = 4;
+
+    private final int mask;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile AtomicLongArray filter;
+
+    public TokenRevocationList(@Value("${jwt.revocation.bloom-bits:1048576}") int bloomBits) {
+        int bits = Integer.highestOneBit(Math.max(bloomBits, Long.SIZE));
+        this.mask = bits - 1;
+        this.filter = new AtomicLongArray(bits / Long.SIZE);
+    }
+
+    public synchronized void revoke(String jti, long expiresAtMillis) {
+        if (jti == null) {
+            return;
+        }
+        revoked.put(jti, expiresAtMillis);
+        add(filter, jti);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !mightContain(filter, jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:5m}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt < now);
+        AtomicLongArray rebuilt = new AtomicLongArray(filter.length());
+        revoked.keySet().forEach(jti -> add(rebuilt, jti));
+        filter = rebuilt;
+    }
+
+    private void add(AtomicLongArray bits, String jti) {
+        long hash = spread(jti);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & mask;
+            int word = bit >>> 6;
+            long flag = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & flag) == 0 && !bits.compareAndSet(word, current, current | flag));
+        }
+    }
+
+    private boolean mightContain(AtomicLongArray bits, String jti) {
+        long hash = spread(jti);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // String.hashCode 는 문자열에 캐시되므로 추가 할당 없이 64비트로 섞어 두 개의 해시를 만든다.
+    private static long spread(String jti) {
+        long hash = jti.hashCode() * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+}
@@ -5,8 +5,12 @@ import com.example.kanban.dto.LoginRequest;
 import com.example.kanban.dto.RegisterRequest;
 import com.example.kanban.entity.User;
 import com.example.kanban.exception.EmailAlreadyExistsException;
+import com.example.kanban.exception.InvalidRefreshTokenException;
 import com.example.kanban.repository.UserRepository;
 import com.example.kanban.security.JwtTokenProvider;
+import com.example.kanban.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -21,6 +25,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
 
     public AuthenticationResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -35,11 +41,7 @@ public class AuthService {
 
         userRepository.save(user);
 
-        var jwtToken = jwtTokenProvider.generateToken(user);
-        return AuthenticationResponse.builder()
-                .token(jwtToken)
-                .username(user.getName())
-                .build();
+        return issueTokens(user);
     }
 
     public AuthenticationResponse authenticate(LoginRequest request) {
@@ -51,9 +53,40 @@ public class AuthService {
         var user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow();
 
-        var jwtToken = jwtTokenProvider.generateToken(user);
+        return issueTokens(user);
+    }
+
+    /**
+     * 리프레시 토큰을 소비하고 새 액세스 토큰과 새 리프레시 토큰을 발급한다. 비밀번호 해시를 다시 계산하지 않는다.
+     */
+    public AuthenticationResponse refresh(String refreshToken) {
+        Long userId = refreshTokenService.consume(refreshToken);
+        var user = userRepository.findById(userId)
+                .filter(User::isEnabled)
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        return issueTokens(user);
+    }
+
+    /**
+     * 액세스 토큰은 만료 시각까지 폐기 목록에 올리고, 리프레시 토큰은 저장소에서 지운다.
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtTokenProvider.validateToken(accessToken);
+                tokenRevocationList.revoke(claims.getId(), claims.getExpiration().getTime());
+            } catch (JwtException | IllegalArgumentException e) {
+                // 이미 만료되었거나 잘못된 토큰은 폐기할 필요가 없다.
+            }
+        }
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    private AuthenticationResponse issueTokens(User user) {
         return AuthenticationResponse.builder()
-                .token(jwtToken)
+                .token(jwtTokenProvider.generateToken(user))
+                .refreshToken(refreshTokenService.issue(user.getId()))
                 .username(user.getName())
                 .build();
     }
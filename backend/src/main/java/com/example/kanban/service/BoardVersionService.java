@@ -0,0 +1,50 @@
+package com.example.kanban.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.kanban.entity.BoardVersion;
+import com.example.kanban.repository.BoardVersionRepository;
+import com.example.kanban.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 보드 버전. 태스크가 바뀔 때마다 증가하며 목록 응답의 ETag 로 쓰인다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BoardVersionService {
+
+    private final BoardVersionRepository boardVersionRepository;
+    private final UserRepository userRepository;
+
+    public void increment(Long userId) {
+        if (boardVersionRepository.increment(userId) > 0) {
+            return;
+        }
+        // 버전 행이 아직 없는 사용자: 사용자 행을 잠가 동시 생성을 막은 뒤 다시 확인한다.
+        userRepository.findByIdForUpdate(userId);
+        if (boardVersionRepository.increment(userId) == 0) {
+            boardVersionRepository.save(BoardVersion.builder()
+                    .userId(userId)
+                    .version(1L)
+                    .build());
+        }
+    }
+
+    public void incrementByEmail(String email) {
+        if (boardVersionRepository.incrementByEmail(email) > 0) {
+            return;
+        }
+        userRepository.findIdByEmail(email).ifPresent(this::increment);
+    }
+
+    @Transactional(readOnly = true)
+    public long getVersion(String email) {
+        return userRepository.findByNaturalEmail(email)
+                .flatMap(user -> boardVersionRepository.findVersionByUserId(user.getId()))
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.kanban.service;
+
+import com.example.kanban.repository.UserRepository;
+import com.example.kanban.security.PrincipalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인에 성공한 비밀번호의 저장 해시가 현재 설정보다 약한 강도라면 새 강도로 다시 저장한다.
+ * DaoAuthenticationProvider 가 PasswordEncoder.upgradeEncoding 결과를 보고 호출한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PasswordUpgradeService implements UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 캐시된 principal 을 직접 비운다.
+        principalCache.invalidate(user.getUsername());
+        log.debug("Upgraded password hash for {}", user.getUsername());
+        return user;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.kanban.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.kanban.entity.RefreshToken;
+import com.example.kanban.exception.InvalidRefreshTokenException;
+import com.example.kanban.repository.RefreshTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰을 발급하고, 사용할 때마다 새 토큰으로 교체(rotation)한다.
+ * 한 번 쓴 토큰은 지워지므로 탈취된 토큰을 재사용하면 거절된다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-expiration:14d}") Duration refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    public String issue(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .userId(userId)
+                .expiresAt(LocalDateTime.now().plus(refreshExpiration))
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * 토큰을 소비하고 소유자 ID 를 돌려준다. 같은 토큰으로 동시에 요청하면 DELETE 에 성공한 한 건만 통과한다.
+     */
+    public Long consume(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new InvalidRefreshTokenException("리프레시 토큰이 필요합니다.");
+        }
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+        if (refreshTokenRepository.deleteByIdReturningCount(token.getId()) == 0
+                || token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        return token.getUserId();
+    }
+
+    public void revoke(String rawToken) {
+        if (rawToken != null && !rawToken.isBlank()) {
+            refreshTokenRepository.deleteByTokenHash(hash(rawToken));
+        }
+    }
+
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired refresh tokens", purged);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
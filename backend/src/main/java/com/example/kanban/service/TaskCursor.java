@@ -0,0 +1,34 @@
+package com.example.kanban.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.kanban.exception.InvalidCursorException;
+
+/**
+ * (task_order, id) 기준 키셋 페이지네이션 커서. 클라이언트에는 불투명한 Base64 문자열로만 노출한다.
+ */
+record TaskCursor(long order, long id) {
+
+    private static final String SEPARATOR = ":";
+
+    String encode() {
+        String raw = order + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("유효하지 않은 커서입니다.");
+            }
+            return new TaskCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다.");
+        }
+    }
+}
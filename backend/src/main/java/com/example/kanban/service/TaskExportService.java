@@ -0,0 +1,87 @@
+package com.example.kanban.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.TaskRepository;
+import com.example.kanban.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 보드 전체를 목록으로 모으지 않고 행 단위로 읽어 바로 응답 스트림에 쓴다.
+ * 엔티티 대신 TaskDto 프로젝션을 읽으므로 영속성 컨텍스트에 쌓이는 것이 없고, 힙 사용량은 보드 크기와 무관하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        JSON(MediaType.APPLICATION_JSON, "json");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    /**
+     * @return 내보낸 태스크 수
+     */
+    @Transactional(readOnly = true)
+    public long export(String username, Format format, OutputStream out) throws IOException {
+        User user = userRepository.findByNaturalEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        // 행마다 flush 하면 작은 패킷이 쏟아지므로 생성기 버퍼가 찰 때만 내보낸다.
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long count = 0;
+        try (Stream<TaskDto> tasks = taskRepository.streamBoardByUserId(user.getId());
+             SequenceWriter sequence = format == Format.JSON
+                     ? writer.writeValuesAsArray(out)
+                     : writer.withRootValueSeparator("\n").writeValues(out)) {
+            for (Iterator<TaskDto> iterator = tasks.iterator(); iterator.hasNext(); count++) {
+                TaskDto task = iterator.next();
+                task.setCreatorName(user.getName());
+                sequence.write(task);
+            }
+        }
+        if (format == Format.NDJSON && count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.kanban.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 업로드 본문을 한 행씩 읽어 검증된 행이나 행 단위 오류로 돌려준다. 파일 전체를 메모리에 올리지 않는다.
+ * 헤더가 없거나 title 컬럼이 없는 CSV 처럼 파일 전체가 잘못된 경우에만 예외를 던진다.
+ */
+abstract class TaskImportReader implements Closeable {
+
+    static final int MAX_TITLE_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 255;
+    // 닫히지 않은 따옴표 하나로 나머지 파일 전체가 한 필드에 쌓이지 않도록 필드 길이를 자른다. 잘린 필드는 길이 검증에서 걸린다.
+    private static final int MAX_FIELD_CHARS = 4096;
+
+    record Row(long line, String title, String description, TaskStatus status, String error) {
+
+        boolean valid() {
+            return error == null;
+        }
+    }
+
+    protected final Reader reader;
+
+    private TaskImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    static TaskImportReader open(TaskImportService.Format format, InputStream in, ObjectMapper objectMapper)
+            throws IOException {
+        return format == TaskImportService.Format.CSV ? new Csv(in) : new Ndjson(in, objectMapper);
+    }
+
+    /**
+     * @return 다음 행. 더 이상 없으면 null
+     */
+    abstract Row next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    static Row validate(long line, String title, String description, String status) {
+        String trimmedTitle = title == null ? "" : title.strip();
+        if (trimmedTitle.isEmpty()) {
+            return invalid(line, "title 이 비어 있습니다.");
+        }
+        if (trimmedTitle.length() > MAX_TITLE_LENGTH) {
+            return invalid(line, "title 은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.");
+        }
+        String normalizedDescription = description == null || description.isEmpty() ? null : description;
+        if (normalizedDescription != null && normalizedDescription.length() > MAX_DESCRIPTION_LENGTH) {
+            return invalid(line, "description 은 " + MAX_DESCRIPTION_LENGTH + "자 이하여야 합니다.");
+        }
+        TaskStatus taskStatus = TaskStatus.TODO;
+        if (status != null && !status.isBlank()) {
+            try {
+                taskStatus = TaskStatus.valueOf(status.strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return invalid(line, "알 수 없는 status 입니다: " + status.strip());
+            }
+        }
+        return new Row(line, trimmedTitle, normalizedDescription, taskStatus, null);
+    }
+
+    private static Row invalid(long line, String error) {
+        return new Row(line, null, null, null, error);
+    }
+
+    /**
+     * RFC 4180 CSV. 첫 줄은 헤더이며 title 은 필수, description 과 status 는 선택이다. 컬럼 순서는 자유롭다.
+     */
+    private static final class Csv extends TaskImportReader {
+
+        private long line = 1;
+        private boolean unterminated;
+        private final int titleColumn;
+        private final int descriptionColumn;
+        private final int statusColumn;
+
+        private Csv(InputStream in) throws IOException {
+            super(in);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new InvalidRequestException("CSV 헤더가 없습니다.");
+            }
+            List<String> names = new ArrayList<>(header.size());
+            for (String name : header) {
+                names.add(name.replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT));
+            }
+            this.titleColumn = names.indexOf("title");
+            this.descriptionColumn = names.indexOf("description");
+            this.statusColumn = names.indexOf("status");
+            if (titleColumn < 0) {
+                throw new InvalidRequestException("CSV 헤더에 title 컬럼이 필요합니다.");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            while (true) {
+                long start = line;
+                List<String> record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+                if (unterminated) {
+                    return invalid(start, "닫히지 않은 따옴표가 있습니다.");
+                }
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                return validate(start, field(record, titleColumn), field(record, descriptionColumn),
+                        field(record, statusColumn));
+            }
+        }
+
+        private static String field(List<String> record, int column) {
+            return column >= 0 && column < record.size() ? record.get(column) : null;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>(4);
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            unterminated = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        unterminated = true;
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (c == '"') {
+                        int next = reader.read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    append(field, c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    if (!field.isEmpty() && field.charAt(field.length() - 1) == '\r') {
+                        field.setLength(field.length() - 1);
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    append(field, c);
+                }
+                c = reader.read();
+            }
+        }
+
+        private static void append(StringBuilder field, int c) {
+            if (field.length() < MAX_FIELD_CHARS) {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * 한 줄에 {"title": ..., "description": ..., "status": ...} 객체 하나.
+     */
+    private static final class Ndjson extends TaskImportReader {
+
+        private final BufferedReader lines;
+        private final ObjectMapper objectMapper;
+        private long line;
+
+        private Ndjson(InputStream in, ObjectMapper objectMapper) {
+            super(in);
+            this.lines = (BufferedReader) reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            String text;
+            do {
+                text = lines.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return invalid(line, "JSON 형식이 아닙니다.");
+            }
+            if (node == null || !node.isObject()) {
+                return invalid(line, "각 줄은 JSON 객체여야 합니다.");
+            }
+            return validate(line, text(node, "title"), text(node, "description"), text(node, "status"));
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.kanban.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.kanban.dto.TaskImportErrorDto;
+import com.example.kanban.dto.TaskImportProgressDto;
+import com.example.kanban.entity.Task;
+import com.example.kanban.entity.User;
+import com.example.kanban.event.TasksImportedEvent;
+import com.example.kanban.exception.InvalidRequestException;
+import com.example.kanban.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CSV/NDJSON 업로드를 읽으면서 chunk-size 행마다 한 트랜잭션으로 저장한다.
+ * 트랜잭션마다 사용자 행을 잠그고 마지막 랭크를 한 번만 읽어 이어지는 랭크를 붙이며,
+ * batch-size 행마다 flush/clear 해 영속성 컨텍스트와 JDBC 배치 크기를 일정하게 유지한다.
+ * 잘못된 행은 건너뛰고 줄 번호와 함께 보고하므로 파일 전체가 실패하지 않는다.
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private final UserRepository userRepository;
+    private final TaskRankService taskRankService;
+    private final BoardVersionService boardVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format of(MediaType contentType) {
+            if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+            if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                return CSV;
+            }
+            throw new InvalidRequestException("지원하지 않는 형식입니다. text/csv 또는 application/x-ndjson 으로 보내 주세요.");
+        }
+    }
+
+    public TaskImportService(
+            UserRepository userRepository,
+            TaskRankService taskRankService,
+            BoardVersionService boardVersionService,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${import.batch-size:500}") int batchSize,
+            @Value("${import.chunk-size:10000}") int chunkSize,
+            @Value("${import.max-errors:1000}") int maxErrors) {
+        this.userRepository = userRepository;
+        this.taskRankService = taskRankService;
+        this.boardVersionService = boardVersionService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * 헤더 같은 파일 단위 오류는 응답을 시작하기 전에 드러나도록 여기서 바로 읽어 확인한다.
+     */
+    public Job prepare(String username, Format format, InputStream in) throws IOException {
+        return new Job(username, TaskImportReader.open(format, in, objectMapper));
+    }
+
+    public final class Job {
+
+        private final String username;
+        private final TaskImportReader reader;
+
+        private Job(String username, TaskImportReader reader) {
+            this.username = username;
+            this.reader = reader;
+        }
+
+        /**
+         * 저장한 chunk 마다 진행 상황을 넘기고, 마지막으로 done=true 인 결과를 넘긴 뒤 돌려준다.
+         */
+        public TaskImportProgressDto run(Consumer<TaskImportProgressDto> progress) throws IOException {
+            long processed = 0;
+            long imported = 0;
+            long failed = 0;
+            List<TaskImportErrorDto> errors = new ArrayList<>();
+            List<TaskImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            long startedAt = System.nanoTime();
+
+            try (reader) {
+                TaskImportReader.Row row;
+                while ((row = reader.next()) != null) {
+                    processed++;
+                    if (row.valid()) {
+                        chunk.add(row);
+                    } else {
+                        failed++;
+                        if (failed <= maxErrors) {
+                            errors.add(new TaskImportErrorDto(row.line(), row.error()));
+                        }
+                    }
+                    if (chunk.size() == chunkSize) {
+                        imported += persist(username, chunk);
+                        chunk.clear();
+                        progress.accept(snapshot(processed, imported, failed, errors, false));
+                        errors = new ArrayList<>();
+                    }
+                }
+            }
+            imported += persist(username, chunk);
+
+            TaskImportProgressDto result = snapshot(processed, imported, failed, errors, true);
+            progress.accept(result);
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+            log.info("Imported {} tasks for {} ({} rejected) in {} ms ({} rows/s)",
+                    imported, username, failed, elapsedMillis, processed * 1000 / elapsedMillis);
+            return result;
+        }
+    }
+
+    private long persist(String username, List<TaskImportReader.Row> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findByEmailForUpdate(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+            Long userId = user.getId();
+            long rank = taskRankService.nextRank(user);
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+            User owner = user;
+            for (int i = 0; i < rows.size(); i++) {
+                TaskImportReader.Row row = rows.get(i);
+                entityManager.persist(Task.builder()
+                        .title(row.title())
+                        .description(row.description())
+                        .status(row.status())
+                        .order(rank + i * TaskRankService.RANK_GAP)
+                        .user(owner)
+                        .build());
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    owner = entityManager.getReference(User.class, userId);
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            // 카드 단위 SSE 이벤트 대신 보드 버전만 올려 클라이언트가 변경분 조회로 따라오게 한다.
+            boardVersionService.increment(userId);
+            eventPublisher.publishEvent(new TasksImportedEvent(username, rows.size()));
+            return (long) rows.size();
+        });
+    }
+
+    private static TaskImportProgressDto snapshot(long processed, long imported, long failed,
+                                                  List<TaskImportErrorDto> errors, boolean done) {
+        return TaskImportProgressDto.builder()
+                .processed(processed)
+                .imported(imported)
+                .failed(failed)
+                .errors(errors)
+                .done(done)
+                .build();
+    }
+}
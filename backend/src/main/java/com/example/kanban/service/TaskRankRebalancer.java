@@ -0,0 +1,42 @@
+package com.example.kanban.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.kanban.event.RankRebalanceRequestedEvent;
+import com.example.kanban.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 랭크 간격이 좁아진 사용자의 태스크 순서를 요청 경로 밖에서 다시 벌려 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskRankRebalancer {
+
+    private final UserRepository userRepository;
+    private final TaskRankService taskRankService;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @Async
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onRebalanceRequested(RankRebalanceRequestedEvent event) {
+        if (!pending.add(event.userId())) {
+            return;
+        }
+        try {
+            userRepository.findByIdForUpdate(event.userId())
+                    .ifPresent(taskRankService::rebalance);
+        } finally {
+            pending.remove(event.userId());
+        }
+    }
+}
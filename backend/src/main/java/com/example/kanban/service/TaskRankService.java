@@ -0,0 +1,126 @@
+package com.example.kanban.service;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.kanban.entity.Task;
+import com.example.kanban.entity.User;
+import com.example.kanban.event.RankRebalanceRequestedEvent;
+import com.example.kanban.event.TaskChangedEvent;
+import com.example.kanban.exception.TaskNotFoundException;
+import com.example.kanban.exception.TaskOrderConflictException;
+import com.example.kanban.repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 태스크 순서(task_order)를 간격을 둔 long 랭크로 관리한다.
+ * 호출자는 반드시 사용자 행에 대한 비관적 락을 잡은 트랜잭션 안에서 호출해야 랭크가 중복되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TaskRankService {
+
+    static final long RANK_GAP = 1L << 20;
+    static final long REBALANCE_THRESHOLD = 64;
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardVersionService boardVersionService;
+
+    public long nextRank(User user) {
+        Long max = taskRepository.findMaxOrder(user);
+        return max == null ? RANK_GAP : max + RANK_GAP;
+    }
+
+    public long rankBetween(User user, Task moving, Long afterTaskId, Long beforeTaskId) {
+        Long lower;
+        Long upper;
+        // 이웃 사이에 다른 컬럼의 태스크가 끼어 있을 수 있으므로 전체 순서에서 바로 옆 랭크를 경계로 삼는다.
+        if (afterTaskId != null) {
+            lower = findNeighbour(user, afterTaskId).getOrder();
+            if (beforeTaskId != null) {
+                verifyAdjacent(user, moving, lower, findNeighbour(user, beforeTaskId).getOrder());
+            }
+            upper = taskRepository.findNextOrder(user, lower, moving.getId());
+        } else if (beforeTaskId != null) {
+            upper = findNeighbour(user, beforeTaskId).getOrder();
+            lower = taskRepository.findPreviousOrder(user, upper, moving.getId());
+        } else {
+            lower = taskRepository.findMaxOrderExcluding(user, moving.getId());
+            upper = null;
+        }
+
+        if (lower == null && upper == null) {
+            return RANK_GAP;
+        }
+        if (upper == null) {
+            return lower + RANK_GAP;
+        }
+        if (lower == null) {
+            return upper - RANK_GAP;
+        }
+
+        long gap = upper - lower;
+        if (gap < 2) {
+            rebalance(user);
+            return rankBetween(user, moving, afterTaskId, beforeTaskId);
+        }
+        if (gap / 2 < REBALANCE_THRESHOLD) {
+            eventPublisher.publishEvent(new RankRebalanceRequestedEvent(user.getId()));
+        }
+        return lower + gap / 2;
+    }
+
+    /**
+     * 이웃 대신 절대 순서 값을 보내는 요청(PUT /api/tasks/{id} 의 order)도 같은 랭크 규칙을 따르도록,
+     * 그 값 이하의 마지막 태스크 뒤에 둔다. 그런 태스크가 없으면 맨 앞에 둔다.
+     */
+    public long rankAt(User user, Task moving, long requestedOrder) {
+        PageRequest first = PageRequest.of(0, 1);
+        List<Long> after = taskRepository.findIdsAtOrBeforeOrder(user, requestedOrder, moving.getId(), first);
+        if (!after.isEmpty()) {
+            return rankBetween(user, moving, after.get(0), null);
+        }
+        List<Long> head = taskRepository.findIdsInOrderExcluding(user, moving.getId(), first);
+        return rankBetween(user, moving, null, head.isEmpty() ? null : head.get(0));
+    }
+
+    public void rebalance(User user) {
+        List<Task> tasks = taskRepository.findAllByUserOrderByOrderAscIdAsc(user);
+        long rank = RANK_GAP;
+        for (Task task : tasks) {
+            task.setOrder(rank);
+            rank += RANK_GAP;
+        }
+        taskRepository.flush();
+        boardVersionService.increment(user.getId());
+        eventPublisher.publishEvent(TaskChangedEvent.reordered(user.getEmail()));
+    }
+
+    /**
+     * 두 이웃을 모두 받으면 클라이언트가 본 컬럼에서 맞닿아 있었는지 확인한다. 순서가 뒤집혔거나 사이에 같은 컬럼의
+     * 다른 태스크가 있으면 보드가 그 사이 바뀐 것이므로 엉뚱한 곳에 끼워 넣지 않고 거절한다.
+     */
+    private void verifyAdjacent(User user, Task moving, Long lower, Long upper) {
+        if (lower >= upper
+                || taskRepository.countInColumnBetween(user, moving.getStatus(), lower, upper, moving.getId()) > 0) {
+            throw new TaskOrderConflictException("보드가 변경되었습니다. 새로고침 후 다시 시도해주세요.");
+        }
+    }
+
+    private Task findNeighbour(User user, Long taskId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다."));
+        if (!task.getUser().getId().equals(user.getId())) {
+            throw new TaskNotFoundException("태스크를 찾을 수 없습니다.");
+        }
+        return task;
+    }
+}
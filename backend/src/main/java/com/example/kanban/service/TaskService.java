@@ -1,17 +1,40 @@
 package com.example.kanban.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.kanban.dto.BatchTaskUpdateItem;
+import com.example.kanban.dto.BatchTaskUpdateRequest;
 import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.MoveTaskRequest;
+import com.example.kanban.dto.TaskBoardDto;
+import com.example.kanban.dto.TaskChangesDto;
+import com.example.kanban.dto.TaskColumnDto;
 import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskPageDto;
+import com.example.kanban.dto.TaskStatusCountDto;
 import com.example.kanban.dto.UpdateTaskRequest;
 import com.example.kanban.entity.Task;
 import com.example.kanban.entity.TaskStatus;
 import com.example.kanban.entity.User;
+import com.example.kanban.event.TaskChangedEvent;
+import com.example.kanban.event.TasksBatchUpdatedEvent;
+import com.example.kanban.exception.InvalidRequestException;
 import com.example.kanban.exception.TaskNotFoundException;
 import com.example.kanban.exception.UnauthorizedAccessException;
 import com.example.kanban.repository.TaskRepository;
@@ -24,36 +47,169 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class TaskService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_BATCH_SIZE = 1000;
+    // updatedAt 은 커밋 시각이 아니므로, 늦게 커밋된 트랜잭션을 놓치지 않도록 커서를 조금 앞당겨 겹치게 조회한다.
+    static final Duration CHANGES_CURSOR_OVERLAP = Duration.ofSeconds(5);
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskRankService taskRankService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardVersionService boardVersionService;
+    private final TaskTombstoneService taskTombstoneService;
 
+    @Transactional(readOnly = true)
     public List<TaskDto> getTasks(String username) {
         User user = getUser(username);
-        return taskRepository.findAllByUserOrderByOrderAsc(user).stream()
-                .map(this::mapToDto)
-                .toList();
+        List<TaskDto> tasks = taskRepository.findBoardByUserId(user.getId());
+        tasks.forEach(task -> task.setCreatorName(user.getName()));
+        return tasks;
     }
 
-    public TaskDto createTask(String username, CreateTaskRequest request) {
+    /**
+     * 상태별 컬럼. 전체 개수는 GROUP BY 한 번으로 세고, 카드는 컬럼마다 순서상 앞쪽 limit 개만 담는다.
+     * 빈 컬럼은 카드를 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public TaskBoardDto getBoard(String username, Integer limit) {
         User user = getUser(username);
+        int pageSize = resolvePageSize(limit);
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatusCountDto count : taskRepository.countByStatus(user.getId())) {
+            counts.put(count.getStatus(), count.getCount());
+        }
+
+        List<TaskColumnDto> columns = new ArrayList<>(TaskStatus.values().length);
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            List<TaskDto> tasks = count == 0
+                    ? List.of()
+                    : taskRepository.findColumnByUserId(user.getId(), status, PageRequest.of(0, pageSize));
+            tasks.forEach(task -> task.setCreatorName(user.getName()));
+
+            boolean hasNext = count > tasks.size();
+            String nextCursor = null;
+            if (hasNext && !tasks.isEmpty()) {
+                TaskDto last = tasks.get(tasks.size() - 1);
+                nextCursor = new TaskCursor(last.getOrder(), last.getId()).encode();
+            }
+            columns.add(TaskColumnDto.builder()
+                    .status(status)
+                    .count(count)
+                    .tasks(tasks)
+                    .nextCursor(nextCursor)
+                    .hasNext(hasNext)
+                    .build());
+        }
+        return TaskBoardDto.builder().columns(columns).build();
+    }
+
+    @Transactional(readOnly = true)
+    public long getBoardVersion(String username) {
+        return boardVersionService.getVersion(username);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDto getTaskPage(String username, TaskStatus status, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        // 다음 페이지 존재 여부를 별도 count 쿼리 없이 판단하기 위해 한 건 더 조회한다.
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<TaskDto> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = status == null
+                    ? taskRepository.findFirstPage(username, pageable)
+                    : taskRepository.findFirstPageByStatus(username, status, pageable);
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor);
+            tasks = status == null
+                    ? taskRepository.findPageAfter(username, after.order(), after.id(), pageable)
+                    : taskRepository.findPageAfterByStatus(username, status, after.order(), after.id(), pageable);
+        }
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskDto> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskDto last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(last.getOrder(), last.getId()).encode();
+        }
+
+        return TaskPageDto.builder()
+                .tasks(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public TaskChangesDto getChanges(String username, LocalDateTime since) {
+        LocalDateTime cursor = LocalDateTime.now().minus(CHANGES_CURSOR_OVERLAP);
+        if (since == null || taskTombstoneService.isBeyondRetention(since)) {
+            return TaskChangesDto.builder()
+                    .changed(List.of())
+                    .deletedIds(List.of())
+                    .cursor(cursor)
+                    .fullResync(true)
+                    .build();
+        }
+
+        User user = getUser(username);
+        List<TaskDto> changed = taskRepository.findChangedSince(user, since);
+        return TaskChangesDto.builder()
+                .changed(changed)
+                .deletedIds(taskTombstoneService.findDeletedSince(user.getId(), since))
+                .cursor(cursor)
+                .fullResync(false)
+                .build();
+    }
+
+    public TaskDto createTask(String username, CreateTaskRequest request) {
+        User user = getUserForUpdate(username);
 
         Task task = Task.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .status(TaskStatus.TODO)
-                .order(System.currentTimeMillis())
+                .order(taskRankService.nextRank(user))
                 .user(user)
                 .build();
 
         Task savedTask = taskRepository.save(task);
-        return mapToDto(savedTask);
+        boardVersionService.increment(user.getId());
+        TaskDto taskDto = mapToDto(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(username, taskDto));
+        return taskDto;
     }
 
     public TaskDto updateTask(String username, Long taskId, UpdateTaskRequest request) {
+        if (request.getOrder() != null) {
+            return updateAndReorder(username, taskId, request);
+        }
+        int updated = taskRepository.updateOwnedTask(taskId, username, request.getTitle(), request.getDescription(),
+                request.getStatus(), LocalDateTime.now());
+        if (updated == 0) {
+            throw missingOrForbidden(taskId);
+        }
+
+        TaskDto taskDto = taskRepository.findDtoById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다."));
+        boardVersionService.incrementByEmail(username);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(username, taskDto));
+        return taskDto;
+    }
+
+    /**
+     * 클라이언트의 order 를 그대로 쓰면 랭크가 겹치거나 간격이 무너지므로, 사용자 행을 잠그고 랭크 엔진으로 다시 정한다.
+     */
+    private TaskDto updateAndReorder(String username, Long taskId, UpdateTaskRequest request) {
+        User user = getUserForUpdate(username);
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다."));
 
-        if (!task.getUser().getUsername().equals(username)) {
+        if (!task.getUser().getId().equals(user.getId())) {
             throw new UnauthorizedAccessException("해당 태스크에 대한 권한이 없습니다.");
         }
 
@@ -63,13 +219,81 @@ public class TaskService {
             task.setDescription(request.getDescription());
         if (request.getStatus() != null)
             task.setStatus(request.getStatus());
-        if (request.getOrder() != null)
-            task.setOrder(request.getOrder());
+        task.setOrder(taskRankService.rankAt(user, task, request.getOrder()));
 
-        return mapToDto(taskRepository.save(task));
+        TaskDto taskDto = mapToDto(taskRepository.save(task));
+        boardVersionService.increment(user.getId());
+        eventPublisher.publishEvent(TaskChangedEvent.updated(username, taskDto));
+        return taskDto;
     }
 
-    public void deleteTask(String username, Long taskId) {
+    public List<TaskDto> batchUpdateTasks(String username, BatchTaskUpdateRequest request) {
+        List<BatchTaskUpdateItem> updates = request.getUpdates();
+        if (updates == null || updates.isEmpty()) {
+            return List.of();
+        }
+        if (updates.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("한 번에 수정할 수 있는 태스크는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        boolean reorders = false;
+        for (BatchTaskUpdateItem update : updates) {
+            if (update.getId() == null) {
+                throw new InvalidRequestException("태스크 ID가 필요합니다.");
+            }
+            boolean hasNeighbour = update.getAfterTaskId() != null || update.getBeforeTaskId() != null;
+            if (update.getOrder() != null && hasNeighbour) {
+                throw new InvalidRequestException("order 와 afterTaskId/beforeTaskId 는 함께 보낼 수 없습니다.");
+            }
+            reorders |= update.getOrder() != null || hasNeighbour;
+            ids.add(update.getId());
+        }
+        // 순서를 바꾸는 항목이 있으면 랭크가 겹치지 않도록 moveTask 와 같이 사용자 행을 잠근다.
+        User user = reorders ? getUserForUpdate(username) : getUser(username);
+
+        Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        if (tasks.size() != ids.size()) {
+            throw new TaskNotFoundException("태스크를 찾을 수 없습니다.");
+        }
+        for (Task task : tasks.values()) {
+            if (!task.getUser().getId().equals(user.getId())) {
+                throw new UnauthorizedAccessException("해당 태스크에 대한 권한이 없습니다.");
+            }
+        }
+
+        for (BatchTaskUpdateItem update : updates) {
+            Task task = tasks.get(update.getId());
+            if (update.getTitle() != null)
+                task.setTitle(update.getTitle());
+            if (update.getDescription() != null)
+                task.setDescription(update.getDescription());
+            if (update.getStatus() != null)
+                task.setStatus(update.getStatus());
+            // 랭크 조회 전에 앞선 항목의 변경이 자동 flush 되므로, 같은 요청 안의 앞 항목을 이웃으로 지정할 수 있다.
+            if (update.getOrder() != null) {
+                task.setOrder(taskRankService.rankAt(user, task, update.getOrder()));
+            } else if (update.getAfterTaskId() != null || update.getBeforeTaskId() != null) {
+                task.setOrder(taskRankService.rankBetween(user, task, update.getAfterTaskId(),
+                        update.getBeforeTaskId()));
+            }
+        }
+        // 변경된 엔티티를 한 번에 flush 하여 hibernate.jdbc.batch_size 단위의 JDBC 배치로 전송한다.
+        taskRepository.flush();
+        boardVersionService.increment(user.getId());
+
+        List<TaskDto> taskDtos = ids.stream()
+                .map(tasks::get)
+                .map(TaskService::mapToDto)
+                .toList();
+        // 카드마다 이벤트를 보내면 큰 배치가 SSE 연결 버퍼를 넘기므로 한 번에 알린다.
+        eventPublisher.publishEvent(new TasksBatchUpdatedEvent(username, taskDtos));
+        return taskDtos;
+    }
+
+    public TaskDto moveTask(String username, Long taskId, MoveTaskRequest request) {
+        User user = getUserForUpdate(username);
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("태스크를 찾을 수 없습니다."));
 
@@ -77,15 +301,54 @@ public class TaskService {
             throw new UnauthorizedAccessException("해당 태스크에 대한 권한이 없습니다.");
         }
 
-        taskRepository.delete(task);
+        if (request.getStatus() != null)
+            task.setStatus(request.getStatus());
+        task.setOrder(taskRankService.rankBetween(user, task, request.getAfterTaskId(), request.getBeforeTaskId()));
+
+        TaskDto taskDto = mapToDto(taskRepository.save(task));
+        boardVersionService.increment(user.getId());
+        eventPublisher.publishEvent(TaskChangedEvent.updated(username, taskDto));
+        return taskDto;
+    }
+
+    public void deleteTask(String username, Long taskId) {
+        Long userId = userRepository.findIdByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        if (taskRepository.deleteOwnedTask(taskId, userId) == 0) {
+            throw missingOrForbidden(taskId);
+        }
+
+        taskTombstoneService.record(userId, taskId);
+        boardVersionService.increment(userId);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(username, taskId));
+    }
+
+    // 조건부 UPDATE/DELETE 가 0건일 때만 존재 여부를 확인해 404 와 403 을 구분한다.
+    private RuntimeException missingOrForbidden(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            return new TaskNotFoundException("태스크를 찾을 수 없습니다.");
+        }
+        return new UnauthorizedAccessException("해당 태스크에 대한 권한이 없습니다.");
     }
 
     private User getUser(String email) {
-        return userRepository.findByEmail(email)
+        return userRepository.findByNaturalEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+    }
+
+    private User getUserForUpdate(String email) {
+        return userRepository.findByEmailForUpdate(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
     }
 
-    private TaskDto mapToDto(Task task) {
+    private int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    static TaskDto mapToDto(Task task) {
         return TaskDto.builder()
                 .id(task.getId())
                 .title(task.getTitle())
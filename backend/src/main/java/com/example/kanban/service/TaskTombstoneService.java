@@ -0,0 +1,57 @@
+package com.example.kanban.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.kanban.entity.TaskTombstone;
+import com.example.kanban.repository.TaskTombstoneRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제된 태스크의 흔적을 보존 기간 동안 남겨 변경분 동기화에서 삭제를 전달할 수 있게 한다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class TaskTombstoneService {
+
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final Duration retention;
+
+    public TaskTombstoneService(
+            TaskTombstoneRepository taskTombstoneRepository,
+            @Value("${sync.tombstone-retention:30d}") Duration retention) {
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.retention = retention;
+    }
+
+    public void record(Long userId, Long taskId) {
+        taskTombstoneRepository.save(TaskTombstone.builder()
+                .userId(userId)
+                .taskId(taskId)
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDeletedSince(Long userId, LocalDateTime since) {
+        return taskTombstoneRepository.findDeletedTaskIds(userId, since);
+    }
+
+    public boolean isBeyondRetention(LocalDateTime since) {
+        return since.isBefore(LocalDateTime.now().minus(retention));
+    }
+
+    @Scheduled(cron = "${sync.tombstone-purge-cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        int purged = taskTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        log.info("Purged {} task tombstones older than {}", purged, retention);
+    }
+}
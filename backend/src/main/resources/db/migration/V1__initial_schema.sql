@@ -0,0 +1,24 @@
+-- ddl-auto 로 만들어지던 스키마. 기존 데이터베이스는 baseline-on-migrate 로 이 버전을 건너뛰므로
+-- 그때 있던 users, tasks 외에는 여기에 두지 않는다. 이후 추가된 테이블과 인덱스는 V2 부터 만든다.
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL UNIQUE,
+    deleted    BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE tasks (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    status      VARCHAR(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    task_order  BIGINT,
+    user_id     BIGINT       NOT NULL REFERENCES users (id),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
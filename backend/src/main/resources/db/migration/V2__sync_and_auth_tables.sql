@@ -0,0 +1,24 @@
+-- 보드 버전(304 응답), 삭제 툼스톤(델타 동기화), 리프레시 토큰. 베이스라인 데이터베이스에는 없던 테이블이다.
+
+CREATE TABLE IF NOT EXISTS board_versions (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS task_tombstones (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id    BIGINT       NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_user_deleted_at ON task_tombstones (user_id, deleted_at);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash VARCHAR(64)  NOT NULL UNIQUE,
+    user_id    BIGINT       NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
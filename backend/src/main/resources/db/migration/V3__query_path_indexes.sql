@@ -0,0 +1,9 @@
+-- 보드 목록, 키셋 페이지, 랭크 계산(MAX/MIN task_order)은 모두 user_id 로 거른 뒤 (task_order, id) 순으로 읽는다.
+-- id 까지 포함해 정렬 없이 인덱스 순서대로 읽고, MAX/MIN 은 인덱스만으로 끝난다.
+CREATE INDEX IF NOT EXISTS idx_tasks_user_order ON tasks (user_id, task_order, id);
+
+-- 델타 동기화: WHERE user_id = ? AND updated_at >= ?
+CREATE INDEX IF NOT EXISTS idx_tasks_user_updated_at ON tasks (user_id, updated_at);
+
+-- 상태별 컬럼 페이지: WHERE user_id = ? AND status = ? ORDER BY task_order, id
+CREATE INDEX IF NOT EXISTS idx_tasks_user_status_order ON tasks (user_id, status, task_order, id);
@@ -0,0 +1,52 @@
+package com.example.kanban;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.FileSystemResource;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트는 src/test/resources/application.yml 이 클래스패스에서 main 설정을 가리므로,
+ * 운영에서 쓰는 main 설정 파일을 직접 읽어 파싱되는지와 주요 키가 제자리에 있는지 확인한다.
+ */
+class ApplicationConfigTest {
+
+    private Properties properties;
+
+    @BeforeEach
+    void setUp() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new FileSystemResource("src/main/resources/application.yml"));
+        properties = yaml.getObject();
+    }
+
+    @Test
+    @DisplayName("main application.yml 이 파싱되고 spring 하위 설정이 유지됨")
+    void mainConfig_SpringSettings() {
+        assertThat(properties.getProperty("spring.mvc.async.request-timeout")).isEqualTo("10m");
+        assertThat(properties.getProperty("spring.flyway.baseline-on-migrate")).isEqualTo("true");
+        assertThat(properties.getProperty("spring.flyway.baseline-version")).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("검색 설정은 최상위 search 아래에 있음")
+    void mainConfig_SearchSettings() {
+        assertThat(properties.getProperty("search.max-documents")).isEqualTo("2000000");
+        assertThat(properties.getProperty("search.idle-timeout")).isEqualTo("30m");
+        assertThat(properties.getProperty("search.max-results")).isEqualTo("100");
+        assertThat(properties.stringPropertyNames()).noneMatch(key -> key.startsWith("spring.max-"));
+    }
+
+    @Test
+    @DisplayName("자동완성 설정은 최상위 typeahead 아래에 있음")
+    void mainConfig_TypeaheadSettings() {
+        assertThat(properties.getProperty("typeahead.max-entries")).isEqualTo("4000000");
+        assertThat(properties.getProperty("typeahead.idle-timeout")).isEqualTo("30m");
+        assertThat(properties.getProperty("typeahead.max-results")).isEqualTo("50");
+    }
+}
@@ -4,8 +4,10 @@ import com.example.kanban.dto.AuthenticationResponse;
 import com.example.kanban.dto.LoginRequest;
 import com.example.kanban.dto.RegisterRequest;
 import com.example.kanban.exception.EmailAlreadyExistsException;
+import com.example.kanban.exception.PasswordHashingBusyException;
 import com.example.kanban.security.JwtAuthenticationFilter;
 import com.example.kanban.security.JwtTokenProvider;
+import com.example.kanban.security.RateLimitFilter;
 import com.example.kanban.service.AuthService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -15,19 +17,24 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest(controllers = AuthController.class, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
+@WebMvcTest(controllers = AuthController.class, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {JwtAuthenticationFilter.class, RateLimitFilter.class}))
 class AuthControllerTest {
 
     @Autowired
@@ -139,4 +146,51 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().is4xxClientError());
     }
+
+    @Test
+    @DisplayName("로그인 API 실패 - 해시 대기열 포화 시 503 과 Retry-After")
+    @WithMockUser
+    void login_Fail_HashingBusy() throws Exception {
+        // given
+        LoginRequest request = LoginRequest.builder()
+                .email("test@example.com")
+                .password("password123")
+                .build();
+
+        when(authService.authenticate(any(LoginRequest.class)))
+                .thenThrow(new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.", Duration.ofSeconds(2)));
+
+        // when & then
+        mockMvc.perform(post("/api/auth/login")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
+
+    @Test
+    @DisplayName("로그인 API 실패 - 인증 공급자가 감싼 해시 대기열 포화도 503 과 Retry-After")
+    @WithMockUser
+    void login_Fail_HashingBusyWrappedByProvider() throws Exception {
+        // given
+        LoginRequest request = LoginRequest.builder()
+                .email("test@example.com")
+                .password("password123")
+                .build();
+
+        PasswordHashingBusyException busy =
+                new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.", Duration.ofSeconds(2));
+        when(authService.authenticate(any(LoginRequest.class)))
+                .thenThrow(new InternalAuthenticationServiceException(busy.getMessage(), busy));
+
+        // when & then
+        mockMvc.perform(post("/api/auth/login")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value("요청이 많아 잠시 후 다시 시도해주세요."));
+    }
 }
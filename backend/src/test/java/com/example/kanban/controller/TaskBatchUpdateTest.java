@@ -0,0 +1,148 @@
+package com.example.kanban.controller;
+
+import com.example.kanban.dto.BatchTaskUpdateItem;
+import com.example.kanban.dto.BatchTaskUpdateRequest;
+import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.UpdateTaskRequest;
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.UserRepository;
+import com.example.kanban.security.JwtTokenProvider;
+import com.example.kanban.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 같은 변경을 PUT 여러 번과 POST /api/tasks/batch 한 번으로 보냈을 때의 JDBC 문장 수와 트랜잭션 수를 비교한다.
+ * 소요 시간은 src/jmh 의 TaskBatchBenchmark 가 잰다. 이웃 ID 로 순서까지 바꾸는 일괄 이동도 함께 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class TaskBatchUpdateTest {
+
+    private static final int TASK_COUNT = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("일괄 수정 1회는 단건 PUT 100회보다 문장과 트랜잭션이 적음")
+    void singlePutsVersusBatch() throws Exception {
+        User user = userRepository.save(User.builder()
+                .name("벤치마크")
+                .email("batch-" + UUID.randomUUID() + "@example.com")
+                .password("encodedPassword")
+                .build());
+        String authorization = "Bearer " + jwtTokenProvider.generateToken(user);
+
+        List<Long> ids = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            ids.add(taskService.createTask(user.getEmail(), CreateTaskRequest.builder()
+                    .title("태스크 " + i)
+                    .build()).getId());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        for (Long id : ids) {
+            mockMvc.perform(put("/api/tasks/" + id)
+                    .header(HttpHeaders.AUTHORIZATION, authorization)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(UpdateTaskRequest.builder()
+                            .status(TaskStatus.IN_PROGRESS)
+                            .build())))
+                    .andExpect(status().isOk());
+        }
+        long singleStatements = statistics.getPrepareStatementCount();
+        long singleTransactions = statistics.getTransactionCount();
+
+        List<BatchTaskUpdateItem> updates = ids.stream()
+                .map(id -> BatchTaskUpdateItem.builder().id(id).status(TaskStatus.DONE).build())
+                .toList();
+        String batchBody = objectMapper.writeValueAsString(BatchTaskUpdateRequest.builder()
+                .updates(updates)
+                .build());
+
+        statistics.clear();
+        mockMvc.perform(post("/api/tasks/batch")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchBody))
+                .andExpect(status().isOk());
+        long batchStatements = statistics.getPrepareStatementCount();
+        long batchTransactions = statistics.getTransactionCount();
+
+        assertThat(batchStatements).isLessThan(singleStatements);
+        assertThat(batchTransactions).isLessThan(singleTransactions);
+    }
+
+    @Test
+    @DisplayName("일괄 수정으로 컬럼 전체를 옮기면서 이웃 ID 로 순서를 바꿈")
+    void batchMoveColumn_Reorders() {
+        User user = userRepository.save(User.builder()
+                .name("컬럼이동")
+                .email("batch-move-" + UUID.randomUUID() + "@example.com")
+                .password("encodedPassword")
+                .build());
+        List<Long> ids = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            ids.add(taskService.createTask(user.getEmail(), CreateTaskRequest.builder()
+                    .title("태스크 " + i)
+                    .build()).getId());
+        }
+
+        // 역순으로 DONE 컬럼에 쌓는다. 각 항목은 같은 요청에서 먼저 옮긴 카드 뒤에 놓인다.
+        List<Long> reversed = ids.reversed();
+        List<BatchTaskUpdateItem> updates = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            updates.add(BatchTaskUpdateItem.builder()
+                    .id(reversed.get(i))
+                    .status(TaskStatus.DONE)
+                    .afterTaskId(i == 0 ? null : reversed.get(i - 1))
+                    .beforeTaskId(i == 0 ? ids.get(0) : null)
+                    .build());
+        }
+        taskService.batchUpdateTasks(user.getEmail(), BatchTaskUpdateRequest.builder().updates(updates).build());
+
+        List<TaskDto> board = taskService.getTasks(user.getEmail());
+        assertThat(board).extracting(TaskDto::getId).containsExactlyElementsOf(reversed);
+        assertThat(board).extracting(TaskDto::getStatus).containsOnly(TaskStatus.DONE);
+        assertThat(board).extracting(TaskDto::getOrder).doesNotHaveDuplicates();
+    }
+}
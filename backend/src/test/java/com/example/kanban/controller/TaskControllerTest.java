@@ -1,13 +1,23 @@
 package com.example.kanban.controller;
 
 import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.TaskBoardDto;
+import com.example.kanban.dto.TaskColumnDto;
 import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskPageDto;
+import com.example.kanban.dto.TaskSuggestionDto;
 import com.example.kanban.dto.UpdateTaskRequest;
 import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.exception.InvalidRequestException;
 import com.example.kanban.exception.TaskNotFoundException;
 import com.example.kanban.exception.UnauthorizedAccessException;
+import com.example.kanban.search.TaskSearchService;
+import com.example.kanban.search.TaskTypeaheadService;
 import com.example.kanban.security.JwtAuthenticationFilter;
 import com.example.kanban.security.JwtTokenProvider;
+import com.example.kanban.security.RateLimitFilter;
+import com.example.kanban.service.TaskExportService;
+import com.example.kanban.service.TaskImportService;
 import com.example.kanban.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -17,10 +27,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -28,10 +42,13 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest(controllers = TaskController.class, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtAuthenticationFilter.class))
+@WebMvcTest(controllers = TaskController.class, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {JwtAuthenticationFilter.class, RateLimitFilter.class}))
 class TaskControllerTest {
 
     @Autowired
@@ -43,6 +60,18 @@ class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskExportService taskExportService;
+
+    @MockitoBean
+    private TaskImportService taskImportService;
+
+    @MockitoBean
+    private TaskSearchService taskSearchService;
+
+    @MockitoBean
+    private TaskTypeaheadService taskTypeaheadService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -71,6 +100,148 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].title").value("테스트 태스크"));
     }
 
+    @Test
+    @DisplayName("태스크 목록 조회 API - 보드 버전이 같으면 304")
+    @WithMockUser(username = "test@example.com")
+    void getTasks_NotModified() throws Exception {
+        // given
+        when(taskService.getBoardVersion("test@example.com")).thenReturn(3L);
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(taskService, times(1)).getTasks(anyString());
+    }
+
+    @Test
+    @DisplayName("보드 조회 API 성공")
+    @WithMockUser(username = "test@example.com")
+    void getBoard_Success() throws Exception {
+        // given
+        when(taskService.getBoard("test@example.com", 1)).thenReturn(TaskBoardDto.builder()
+                .columns(List.of(TaskColumnDto.builder()
+                        .status(TaskStatus.TODO)
+                        .count(3)
+                        .tasks(List.of(createTaskDto()))
+                        .nextCursor("cursor")
+                        .hasNext(true)
+                        .build()))
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/board").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.columns[0].status").value("TODO"))
+                .andExpect(jsonPath("$.columns[0].count").value(3))
+                .andExpect(jsonPath("$.columns[0].tasks[0].title").value("테스트 태스크"))
+                .andExpect(jsonPath("$.columns[0].nextCursor").value("cursor"))
+                .andExpect(jsonPath("$.columns[0].hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("태스크 검색 API 성공")
+    @WithMockUser(username = "test@example.com")
+    void searchTasks_Success() throws Exception {
+        // given
+        when(taskSearchService.search("test@example.com", "테스트", null)).thenReturn(List.of(createTaskDto()));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/search").param("q", "테스트"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("테스트 태스크"));
+    }
+
+    @Test
+    @DisplayName("태스크 검색 API - 검색어가 없으면 400")
+    @WithMockUser(username = "test@example.com")
+    void searchTasks_BlankQuery() throws Exception {
+        // given
+        when(taskSearchService.search(eq("test@example.com"), any(), any()))
+                .thenThrow(new InvalidRequestException("검색어를 입력해 주세요."));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("태스크 제목 자동완성 API 성공")
+    @WithMockUser(username = "test@example.com")
+    void suggestTasks_Success() throws Exception {
+        // given
+        when(taskTypeaheadService.suggest("test@example.com", "테스", 5)).thenReturn(List.of(
+                TaskSuggestionDto.builder().id(1L).title("테스트 태스크").status(TaskStatus.TODO).build()));
+
+        // when & then
+        mockMvc.perform(get("/api/tasks/typeahead").param("prefix", "테스").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].title").value("테스트 태스크"));
+    }
+
+    @Test
+    @DisplayName("보드 내보내기 API - NDJSON 스트리밍")
+    @WithMockUser(username = "test@example.com")
+    void exportTasks_StreamsNdjson() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(taskExportService).export(eq("test@example.com"), eq(TaskExportService.Format.NDJSON), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @DisplayName("태스크 가져오기 API - 지원하지 않는 형식이면 400")
+    @WithMockUser(username = "test@example.com")
+    void importTasks_UnsupportedFormat() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/tasks/import")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<tasks/>"))
+                .andExpect(status().isBadRequest());
+        verify(taskImportService, never()).prepare(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("태스크 페이지 조회 API 성공")
+    @WithMockUser(username = "test@example.com")
+    void getTaskPage_Success() throws Exception {
+        // given
+        TaskPageDto page = TaskPageDto.builder()
+                .tasks(List.of(createTaskDto()))
+                .nextCursor("next")
+                .hasNext(true)
+                .build();
+        when(taskService.getTaskPage(anyString(), eq(TaskStatus.TODO), isNull(), eq(1))).thenReturn(page);
+
+        // when & then
+        mockMvc.perform(get("/api/tasks").param("limit", "1").param("status", "TODO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].title").value("테스트 태스크"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("태스크 생성 API 성공")
     @WithMockUser(username = "test@example.com")
@@ -0,0 +1,110 @@
+package com.example.kanban.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ConnectionAdmissionDataSourceTest {
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가가 반환되고 중복 close 는 한 번만 반환")
+    void close_ReleasesPermitOnce() throws SQLException {
+        // given
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        given(target.getConnection()).willReturn(physical);
+        ConnectionAdmissionDataSource dataSource = new ConnectionAdmissionDataSource(target, 2, Duration.ofMillis(100));
+
+        // when
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(physical, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("허가를 기다리다 시간이 지나면 일시적 커넥션 예외")
+    void getConnection_TimesOutWhenExhausted() throws SQLException {
+        // given
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        ConnectionAdmissionDataSource dataSource = new ConnectionAdmissionDataSource(target, 1, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("대상 풀에서 실패하면 허가를 돌려줌")
+    void getConnection_ReleasesPermitOnFailure() throws SQLException {
+        // given
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willThrow(new SQLException("pool closed"));
+        ConnectionAdmissionDataSource dataSource = new ConnectionAdmissionDataSource(target, 1, Duration.ofMillis(50));
+
+        // when & then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가상 스레드가 몰려도 동시에 열린 커넥션 수는 허가 수를 넘지 않음")
+    void getConnection_BoundsConcurrencyUnderVirtualThreads() throws Exception {
+        // given
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> {
+            peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+            Connection connection = mock(Connection.class);
+            doAnswer(close -> open.decrementAndGet()).when(connection).close();
+            return connection;
+        });
+        ConnectionAdmissionDataSource dataSource = new ConnectionAdmissionDataSource(target, 4, Duration.ofSeconds(10));
+        CountDownLatch done = new CountDownLatch(1_000);
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                executor.execute(() -> {
+                    try (Connection ignored = dataSource.getConnection()) {
+                        Thread.sleep(1);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+
+        // then
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isLessThanOrEqualTo(4);
+        assertThat(dataSource.availablePermits()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.kanban.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 데이터베이스를 주 데이터베이스와 복제본으로 두고,
+ * 같은 테이블에 서로 다른 값을 넣어 어느 쪽에서 읽었는지 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag_seconds FROM replica_lag";
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        primary = h2("primary-" + suffix);
+        replica = h2("replica-" + suffix);
+        seed(primary, "primary");
+        seed(replica, "replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (lag_seconds DOUBLE)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서, 읽기-쓰기 트랜잭션은 주 데이터베이스에서 읽음")
+    void routesByTransactionReadOnlyFlag() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, LAG_QUERY, Duration.ofSeconds(1));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, monitor);
+
+        // when & then
+        assertThat(readOrigin(routing, true)).isEqualTo("replica");
+        assertThat(readOrigin(routing, false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(routing).queryForObject("SELECT origin FROM marker", String.class))
+                .isEqualTo("primary");
+        assertThat(monitor.replicaReadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 임계값을 넘으면 읽기 전용 트랜잭션도 주 데이터베이스로, 회복되면 다시 복제본으로")
+    void fallsBackToPrimaryWhileLagging() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, LAG_QUERY, Duration.ofSeconds(1));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, monitor);
+
+        // when
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_seconds = 3.5");
+        monitor.check();
+
+        // then
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(monitor.lagSeconds()).isEqualTo(3.5);
+        assertThat(readOrigin(routing, true)).isEqualTo("primary");
+        assertThat(monitor.fallbackReadCount()).isEqualTo(1);
+
+        // when
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_seconds = 0.2");
+        monitor.check();
+
+        // then
+        assertThat(readOrigin(routing, true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 주 데이터베이스로 읽음")
+    void fallsBackToPrimaryWhenReplicaUnreachable() {
+        // given
+        DriverManagerDataSource missing = new DriverManagerDataSource(
+                "jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(missing, "", Duration.ofSeconds(1));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, monitor);
+
+        // when & then
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(readOrigin(routing, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기는 복제본이 정상이어도 주 데이터베이스에만 반영")
+    void writesGoToPrimary() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, LAG_QUERY, Duration.ofSeconds(1));
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, monitor);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+
+        // when
+        transaction.executeWithoutResult(status ->
+                new JdbcTemplate(routing).update("UPDATE marker SET origin = 'written'"));
+
+        // then
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT origin FROM marker", String.class))
+                .isEqualTo("written");
+        assertThat(new JdbcTemplate(replica).queryForObject("SELECT origin FROM marker", String.class))
+                .isEqualTo("replica");
+    }
+
+    private static String readOrigin(ReadWriteRoutingDataSource routing, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(routing).queryForObject("SELECT origin FROM marker", String.class));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void seed(DriverManagerDataSource dataSource, String origin) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (origin VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", origin);
+    }
+}
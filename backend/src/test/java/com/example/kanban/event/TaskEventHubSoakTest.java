@@ -0,0 +1,70 @@
+package com.example.kanban.event;
+
+import com.example.kanban.dto.TaskDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유휴 SSE 연결 수천 개를 유지할 때 연결당 힙 사용량을 측정한다.
+ * ./gradlew benchmarkTest 로 실행한다.
+ */
+@Tag("benchmark")
+class TaskEventHubSoakTest {
+
+    private static final int USERS = 1000;
+    private static final int CONNECTIONS_PER_USER = 5;
+
+    @Test
+    @DisplayName("유휴 연결 5,000개의 연결당 메모리")
+    void idleConnections_MemoryPerConnection() throws Exception {
+        TaskEventHub hub = new TaskEventHub(Executors.newVirtualThreadPerTaskExecutor(), 32, Duration.ofHours(1));
+        List<Object> emitters = new ArrayList<>(USERS * CONNECTIONS_PER_USER);
+
+        long before = usedHeap();
+        for (int user = 0; user < USERS; user++) {
+            for (int i = 0; i < CONNECTIONS_PER_USER; i++) {
+                emitters.add(hub.subscribe("user-" + user + "@example.com"));
+            }
+        }
+        long after = usedHeap();
+
+        int connections = hub.connectionCount();
+        long bytesPerConnection = (after - before) / connections;
+
+        // 팬아웃 경로가 유휴 연결을 건드리지 않는지 확인한다.
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            hub.onTaskChanged(TaskChangedEvent.updated("user-" + (i % USERS) + "@example.com",
+                    TaskDto.builder().id((long) i).title("태스크").build()));
+        }
+        long fanOutMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(connections).isEqualTo(USERS * CONNECTIONS_PER_USER);
+        assertThat(bytesPerConnection)
+                .as("%d idle connections, %d bytes/connection", connections, bytesPerConnection)
+                .isLessThan(4096);
+        assertThat(hub.connectionCount())
+                .as("10,000 events fanned out in %d ms", fanOutMillis)
+                .isEqualTo(connections);
+        assertThat(emitters).hasSize(connections);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.kanban.event;
+
+import com.example.kanban.dto.TaskDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventHubTest {
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    private TaskDto taskDto(long id) {
+        return TaskDto.builder().id(id).title("태스크 " + id).build();
+    }
+
+    @Test
+    @DisplayName("사용자별 연결 수를 관리")
+    void subscribe_TracksConnectionsPerUser() {
+        TaskEventHub hub = new TaskEventHub(Runnable::run, 4, Duration.ofMinutes(1));
+
+        hub.subscribe("test@example.com");
+        hub.subscribe("test@example.com");
+        hub.subscribe("other@example.com");
+
+        assertThat(hub.connectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찬 느린 소비자는 연결을 끊음")
+    void onTaskChanged_DropsSlowConsumer() {
+        // 전송 작업을 실행하지 않는 executor 로 소비자가 멈춘 상황을 만든다.
+        TaskEventHub hub = new TaskEventHub(scheduled::add, 2, Duration.ofMinutes(1));
+        hub.subscribe("test@example.com");
+        hub.subscribe("other@example.com");
+
+        hub.onTaskChanged(TaskChangedEvent.created("test@example.com", taskDto(1)));
+        hub.onTaskChanged(TaskChangedEvent.created("test@example.com", taskDto(2)));
+        assertThat(hub.connectionCount()).isEqualTo(2);
+
+        hub.onTaskChanged(TaskChangedEvent.created("test@example.com", taskDto(3)));
+
+        assertThat(hub.connectionCount()).isEqualTo(1);
+        assertThat(scheduled).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 이벤트는 전달하지 않음")
+    void onTaskChanged_OnlyTargetsOwner() {
+        TaskEventHub hub = new TaskEventHub(scheduled::add, 2, Duration.ofMinutes(1));
+        hub.subscribe("other@example.com");
+
+        hub.onTaskChanged(TaskChangedEvent.created("test@example.com", taskDto(1)));
+
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("가져오기는 소유자 연결마다 이벤트 하나로 알림")
+    void onTasksImported_NotifiesOwnerOnce() {
+        TaskEventHub hub = new TaskEventHub(scheduled::add, 2, Duration.ofMinutes(1));
+        hub.subscribe("test@example.com");
+        hub.subscribe("other@example.com");
+
+        hub.onTasksImported(new TasksImportedEvent("test@example.com", 50_000));
+
+        assertThat(scheduled).hasSize(1);
+        assertThat(hub.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 일괄 수정은 연결을 끊지 않고 이벤트 하나로 알림")
+    void onTasksBatchUpdated_LargeBatchSendsSingleEvent() {
+        TaskEventHub hub = new TaskEventHub(scheduled::add, 2, Duration.ofMinutes(1));
+        hub.subscribe("test@example.com");
+
+        hub.onTasksBatchUpdated(new TasksBatchUpdatedEvent("test@example.com",
+                List.of(taskDto(1), taskDto(2), taskDto(3), taskDto(4))));
+
+        assertThat(scheduled).hasSize(1);
+        assertThat(hub.connectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버퍼 안에 드는 일괄 수정은 카드마다 알림")
+    void onTasksBatchUpdated_SmallBatchSendsPerTask() {
+        TaskEventHub hub = new TaskEventHub(scheduled::add, 2, Duration.ofMinutes(1));
+        hub.subscribe("test@example.com");
+        hub.subscribe("test@example.com");
+
+        hub.onTasksBatchUpdated(new TasksBatchUpdatedEvent("test@example.com", List.of(taskDto(1), taskDto(2))));
+
+        // 연결마다 전송 작업이 한 번 예약되고, 두 이벤트 모두 버퍼에 들어가 연결이 유지된다.
+        assertThat(scheduled).hasSize(2);
+        assertThat(hub.connectionCount()).isEqualTo(2);
+    }
+}
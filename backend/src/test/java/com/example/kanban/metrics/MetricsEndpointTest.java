@@ -0,0 +1,67 @@
+package com.example.kanban.metrics;
+
+import com.example.kanban.dto.RegisterRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("서비스 호출 후 스크레이프 엔드포인트에 히스토그램 노출")
+    void prometheus_ExposesServiceHistograms() throws Exception {
+        // given
+        RegisterRequest request = RegisterRequest.builder()
+                .name("메트릭")
+                .email("metrics-" + UUID.randomUUID() + "@example.com")
+                .password("password123")
+                .build();
+        String body = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String token = objectMapper.readTree(body).get("token").asText();
+
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer invalid"))
+                .andExpect(status().isForbidden());
+
+        // when & then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "kanban_service_operation_seconds_bucket{")))
+                .andExpect(content().string(containsString("operation=\"getTasks\"")))
+                .andExpect(content().string(containsString("kanban_board_size_bucket{")))
+                .andExpect(content().string(containsString("kanban_auth_filter_seconds_count{")))
+                .andExpect(content().string(containsString("outcome=\"unauthorized\"")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.config.SchemaIndexVerifier;
+import com.example.kanban.config.V4__SeedTasksSequence;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 ddl-auto 로 만들어진 데이터베이스(users, tasks 만 있음)에서 migrate 를 실행한다.
+ * baseline-on-migrate 로 V1 을 건너뛰어도 이후 버전이 나머지 테이블, 인덱스, 시퀀스를 모두 만들어야 한다.
+ */
+class BaselineMigrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:baseline-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 베이스라인 시점의 엔티티(IDENTITY 기본 키)로 Hibernate 가 만들던 스키마
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+                + " name VARCHAR(255) NOT NULL, password VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL UNIQUE,"
+                + " deleted BOOLEAN NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+                + " title VARCHAR(255) NOT NULL, description VARCHAR(255),"
+                + " status VARCHAR(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),"
+                + " task_order BIGINT, user_id BIGINT NOT NULL REFERENCES users (id),"
+                + " created_at TIMESTAMP(6), updated_at TIMESTAMP(6))");
+        jdbcTemplate.update("INSERT INTO users (name, password, email, deleted, created_at) VALUES (?, ?, ?, ?, ?)",
+                "기존", "encoded", "baseline@example.com", false, LocalDateTime.now());
+        for (int i = 0; i < 120; i++) {
+            jdbcTemplate.update("INSERT INTO tasks (title, status, task_order, user_id) VALUES (?, 'TODO', ?, 1)",
+                    "태스크 " + i, (long) i);
+        }
+    }
+
+    @Test
+    @DisplayName("베이스라인 스키마에서 migrate 하면 이후 테이블, 인덱스, 시퀀스가 모두 생김")
+    void migrate_FromBaselineSchema() throws Exception {
+        // when
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .javaMigrations(new V4__SeedTasksSequence())
+                .load()
+                .migrate();
+
+        // then
+        for (String table : new String[]{"BOARD_VERSIONS", "TASK_TOMBSTONES", "REFRESH_TOKENS"}) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?", Integer.class, table);
+            assertThat(count).as(table).isEqualTo(1);
+        }
+        assertThat(new SchemaIndexVerifier(dataSource).findMissing()).isEmpty();
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tasks_seq", Long.class);
+        assertThat(next - V4__SeedTasksSequence.ALLOCATION_SIZE).isGreaterThan(maxId);
+    }
+}
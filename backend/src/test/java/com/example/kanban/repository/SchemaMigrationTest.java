@@ -0,0 +1,138 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.config.SchemaIndexVerifier;
+import com.example.kanban.config.V4__SeedTasksSequence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 마이그레이션으로 만든 H2 스키마에서 주요 조회 경로의 실행 계획을 확인한다.
+ * 실패하면 실행 계획 전체를 실패 메시지로 남긴다.
+ */
+@SpringBootTest
+class SchemaMigrationTest {
+
+    private static final AtomicLong NEXT_ID = new AtomicLong(9_000_000_000L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        String email = "schema-" + UUID.randomUUID() + "@example.com";
+        jdbcTemplate.update("INSERT INTO users (name, password, email, deleted, created_at) VALUES (?, ?, ?, ?, ?)",
+                "스키마", "encoded", email, false, LocalDateTime.now());
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+
+        // Hibernate 가 시퀀스로 쓰는 ID 범위와 겹치지 않도록 먼 범위의 ID 를 직접 지정한다.
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rows.add(new Object[]{NEXT_ID.getAndIncrement(), "태스크 " + i, i % 3 == 0 ? "DONE" : "TODO",
+                    (i + 1) * 1000L, userId, LocalDateTime.now(), LocalDateTime.now()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, status, task_order, user_id, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("마이그레이션이 모두 적용되고 필요한 인덱스가 존재")
+    void migrationsApplied() throws Exception {
+        Integer applied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", Integer.class);
+
+        assertThat(applied).isGreaterThanOrEqualTo(2);
+        assertThat(schemaIndexVerifier.findMissing()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("tasks_seq 는 기존 행의 최대 ID 이후에서 다시 시작")
+    void tasksSequence_RestartsPastMaxId() {
+        Integer seeded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"version\" = '4' AND \"success\" = TRUE",
+                Integer.class);
+        assertThat(seeded).isEqualTo(1);
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            V4__SeedTasksSequence.seed(connection);
+            return null;
+        });
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR tasks_seq", Long.class);
+        assertThat(next - V4__SeedTasksSequence.ALLOCATION_SIZE).isGreaterThan(maxId);
+    }
+
+    @Test
+    @DisplayName("보드 목록은 (user_id, task_order, id) 인덱스 순서대로 읽음")
+    void boardQuery_UsesUserOrderIndex() {
+        String plan = explain("SELECT t.id, t.task_order FROM tasks t WHERE t.user_id = " + userId
+                + " ORDER BY t.task_order, t.id");
+
+        assertThat(plan).as(plan).containsIgnoringCase("IDX_TASKS_USER_ORDER");
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("상태별 페이지는 (user_id, status, task_order, id) 인덱스 사용")
+    void statusPageQuery_UsesUserStatusOrderIndex() {
+        String plan = explain("SELECT t.id FROM tasks t WHERE t.user_id = " + userId
+                + " AND t.status = 'TODO' ORDER BY t.task_order, t.id");
+
+        assertThat(plan).as(plan).containsIgnoringCase("IDX_TASKS_USER_STATUS_ORDER");
+    }
+
+    @Test
+    @DisplayName("소유자 조건부 수정은 기본 키로 한 행만 찾음")
+    void ownershipUpdate_UsesPrimaryKey() {
+        String plan = explain("UPDATE tasks SET title = 'x' WHERE id = 1 AND user_id = "
+                + "(SELECT u.id FROM users u WHERE u.email = 'schema@example.com')");
+
+        assertThat(plan).as(plan).containsIgnoringCase("PRIMARY_KEY");
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 유니크 인덱스 사용")
+    void emailLookup_UsesUniqueIndex() {
+        String plan = explain("SELECT u.id FROM users u WHERE u.email = 'schema@example.com'");
+
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("필요한 인덱스가 빠지면 기동 검사가 실패")
+    void verifier_FailsOnDrift() {
+        jdbcTemplate.execute("DROP INDEX idx_tasks_user_status_order");
+        try {
+            assertThatThrownBy(() -> schemaIndexVerifier.run(null))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("status");
+        } finally {
+            jdbcTemplate.execute("CREATE INDEX idx_tasks_user_status_order ON tasks (user_id, status, task_order, id)");
+        }
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
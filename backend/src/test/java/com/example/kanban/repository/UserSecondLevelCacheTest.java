@@ -0,0 +1,132 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.RegisterRequest;
+import com.example.kanban.entity.User;
+import com.example.kanban.security.PrincipalCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실행된 SQL 을 기록해, 캐시가 데워진 뒤의 보드 조회가 users 테이블을 전혀 읽지 않는지 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.kanban.repository.UserSecondLevelCacheTest$RecordingStatementInspector")
+@AutoConfigureMockMvc
+class UserSecondLevelCacheTest {
+
+    private static final Pattern USERS_TABLE = Pattern.compile("\\busers\\b", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RegisterRequest request = RegisterRequest.builder()
+                .name("캐시")
+                .email("cache-" + UUID.randomUUID() + "@example.com")
+                .password("password123")
+                .build();
+        String body = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        token = objectMapper.readTree(body).get("token").asText();
+
+        mockMvc.perform(post("/api/tasks")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateTaskRequest.builder().title("캐시 태스크").build())))
+                .andExpect(status().isOk());
+        getBoard();
+    }
+
+    @Test
+    @DisplayName("데워진 뒤의 GET /api/tasks 는 users 쿼리를 실행하지 않음")
+    void steadyStateBoard_IssuesNoUsersQueries() throws Exception {
+        // given
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        // when
+        getBoard();
+
+        // then
+        List<String> statements = List.copyOf(RecordingStatementInspector.STATEMENTS);
+        assertThat(statements).anyMatch(sql -> sql.toLowerCase().contains("tasks"));
+        assertThat(statements).noneMatch(sql -> USERS_TABLE.matcher(sql).find());
+    }
+
+    @Test
+    @DisplayName("인증 주체 캐시가 비어도 사용자는 2차 캐시에서 읽음")
+    void principalCacheMiss_IsServedBySecondLevelCache() throws Exception {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long naturalIdHits = statistics.getCacheRegionStatistics(User.NATURAL_ID_CACHE_REGION).getHitCount();
+        long entityHits = statistics.getCacheRegionStatistics(User.CACHE_REGION).getHitCount();
+        principalCache.invalidateAll();
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        // when
+        getBoard();
+
+        // then
+        assertThat(RecordingStatementInspector.STATEMENTS).noneMatch(sql -> USERS_TABLE.matcher(sql).find());
+        assertThat(statistics.getCacheRegionStatistics(User.NATURAL_ID_CACHE_REGION).getHitCount())
+                .isGreaterThan(naturalIdHits);
+        assertThat(statistics.getCacheRegionStatistics(User.CACHE_REGION).getHitCount())
+                .isGreaterThan(entityHits);
+    }
+
+    private void getBoard() throws Exception {
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.kanban.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchIndexTest {
+
+    @Test
+    @DisplayName("토큰화 - 영문은 소문자 단어, 한글은 음절 바이그램, 전각 문자는 NFKC 로 정규화")
+    void tokenize_MixedScripts() {
+        assertThat(TaskTokenizer.tokenize("API 배포-회의록 v2"))
+                .containsExactly("api", "배포", "회의", "의록", "v2");
+        assertThat(TaskTokenizer.tokenize("ＤＥＰＬＯＹ 끝")).containsExactly("deploy", "끝");
+        assertThat(TaskTokenizer.tokenize("  ...  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - 조사가 붙은 한국어와 대소문자가 다른 영어를 찾음")
+    void search_KoreanAndEnglish() {
+        // given
+        TaskSearchIndex index = new TaskSearchIndex();
+        index.upsert(1L, "주간 회의를 준비", null);
+        index.upsert(2L, "Deploy the API server", "release 노트 작성");
+        index.upsert(3L, "장보기", "우유, 계란");
+
+        // then
+        assertThat(ids(index.search("회의", 10))).containsExactly(1L);
+        assertThat(ids(index.search("deploy", 10))).containsExactly(2L);
+        assertThat(ids(index.search("RELEASE 노트", 10))).containsExactly(2L);
+        assertThat(index.search("없는 단어", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - 제목에서 찾은 문서와 드문 단어를 가진 문서를 앞에 둠")
+    void search_RanksByBm25() {
+        // given
+        TaskSearchIndex index = new TaskSearchIndex();
+        index.upsert(1L, "서버 점검", "결제 모듈");
+        index.upsert(2L, "결제 모듈 수정", "서버 점검");
+        index.upsert(3L, "서버 증설", null);
+        index.upsert(4L, "서버 로그", null);
+
+        // then
+        assertThat(ids(index.search("결제", 10))).containsExactly(2L, 1L);
+        // "점검" 은 "서버" 보다 드물므로 점검이 들어간 문서가 먼저 나온다.
+        assertThat(ids(index.search("서버 점검", 10))).startsWith(1L, 2L);
+        assertThat(ids(index.search("서버", 2))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("수정과 삭제 - 이전 내용은 더 이상 검색되지 않고, 압축 뒤에도 결과가 같음")
+    void upsertAndRemove() {
+        // given
+        TaskSearchIndex index = new TaskSearchIndex();
+        for (long id = 1; id <= 100; id++) {
+            index.upsert(id, "태스크 " + id, id % 10 == 0 ? "마감 임박" : null);
+        }
+
+        // when
+        index.upsert(10L, "이름 바꿈", null);
+        for (long id = 1; id <= 60; id++) {
+            if (id % 10 != 0) {
+                index.remove(id);
+            }
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(46);
+        assertThat(ids(index.search("마감", 20))).containsExactlyInAnyOrder(20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L);
+        assertThat(ids(index.search("바꿈", 20))).containsExactly(10L);
+        assertThat(index.search("태스크", 100)).hasSize(45);
+    }
+
+    private static List<Long> ids(List<TaskSearchIndex.Hit> hits) {
+        return hits.stream().map(TaskSearchIndex.Hit::taskId).toList();
+    }
+}
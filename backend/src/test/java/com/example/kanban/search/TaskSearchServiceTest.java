@@ -0,0 +1,94 @@
+package com.example.kanban.search;
+
+import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.UpdateTaskRequest;
+import com.example.kanban.entity.User;
+import com.example.kanban.event.TasksImportedEvent;
+import com.example.kanban.repository.UserRepository;
+import com.example.kanban.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인이 처음 검색 때 만들어지고, 이후 생성/수정/삭제가 커밋되면 다시 만들지 않고 반영되는지 확인한다.
+ */
+@SpringBootTest
+class TaskSearchServiceTest {
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "search-" + UUID.randomUUID() + "@example.com";
+        userRepository.save(User.builder()
+                .name("검색")
+                .email(email)
+                .password("encodedPassword")
+                .build());
+    }
+
+    @Test
+    @DisplayName("생성, 수정, 삭제가 만들어 둔 색인에 바로 반영됨")
+    void search_FollowsTaskChanges() {
+        // given
+        TaskDto release = taskService.createTask(email, CreateTaskRequest.builder()
+                .title("릴리스 노트 작성")
+                .description("v2 배포 전에")
+                .build());
+        assertThat(taskSearchService.search(email, "배포", null))
+                .extracting(TaskDto::getId).containsExactly(release.getId());
+        long misses = taskSearchService.indexCache().missCount();
+
+        // when
+        TaskDto deploy = taskService.createTask(email, CreateTaskRequest.builder().title("배포 체크리스트").build());
+        taskService.updateTask(email, release.getId(), UpdateTaskRequest.builder().description("문서 정리").build());
+
+        // then
+        assertThat(taskSearchService.search(email, "배포", null))
+                .extracting(TaskDto::getId).containsExactly(deploy.getId());
+        assertThat(taskSearchService.search(email, "문서", null))
+                .singleElement()
+                .satisfies(task -> assertThat(task.getCreatorName()).isEqualTo("검색"));
+
+        taskService.deleteTask(email, deploy.getId());
+        assertThat(taskSearchService.search(email, "배포", null)).isEmpty();
+        assertThat(taskSearchService.indexCache().missCount()).isEqualTo(misses);
+    }
+
+    @Test
+    @DisplayName("가져오기 이벤트를 받으면 다음 검색에서 색인을 다시 만듦")
+    void search_RebuildsAfterImport() {
+        // given
+        taskService.createTask(email, CreateTaskRequest.builder().title("가져온 카드").build());
+        assertThat(taskSearchService.search(email, "카드", null)).hasSize(1);
+        long misses = taskSearchService.indexCache().missCount();
+
+        // when
+        eventPublisher.publishEvent(new TasksImportedEvent(email, 1));
+
+        // then
+        assertThat(taskSearchService.search(email, "카드", null)).hasSize(1);
+        assertThat(taskSearchService.indexCache().missCount()).isEqualTo(misses + 1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.kanban.search;
+
+import com.example.kanban.dto.TaskSuggestionDto;
+import com.example.kanban.entity.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskTitlePrefixIndexTest {
+
+    @Test
+    @DisplayName("자동완성 - 제목의 어느 단어든 접두사로 찾고, 대소문자와 공백 차이는 무시")
+    void suggest_MatchesWordPrefixes() {
+        // given
+        TaskTitlePrefixIndex index = TaskTitlePrefixIndex.of(List.of(
+                suggestion(1L, "서버 점검"),
+                suggestion(2L, "Server  Deploy"),
+                suggestion(3L, "서버 증설 서버")));
+
+        // then
+        assertThat(ids(index.suggest("서버", 10))).containsExactly(3L, 1L);
+        assertThat(ids(index.suggest("SER", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("server d", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("점", 10))).containsExactly(1L);
+        assertThat(index.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동완성 - 최근에 만든 태스크 limit 개만 돌려줌")
+    void suggest_TopKByRecency() {
+        // given
+        TaskTitlePrefixIndex index = TaskTitlePrefixIndex.of(LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> suggestion(id, "배포 " + id))
+                .toList());
+
+        // then
+        assertThat(ids(index.suggest("배포", 3))).containsExactly(500L, 499L, 498L);
+    }
+
+    @Test
+    @DisplayName("수정과 삭제 - 이전 제목은 더 이상 걸리지 않고, 병합 뒤에도 결과가 같음")
+    void upsertAndRemove() {
+        // given
+        TaskTitlePrefixIndex index = TaskTitlePrefixIndex.of(List.of(suggestion(1L, "서버 점검")));
+
+        // when
+        index.upsert(1L, "점검 끝", TaskStatus.DONE);
+        index.upsert(2L, "서버실 청소", TaskStatus.TODO);
+        index.upsert(2L, "서버실 청소", TaskStatus.IN_PROGRESS);
+        for (long id = 100; id < 3000; id++) {
+            index.upsert(id, "임시 " + id, TaskStatus.TODO);
+        }
+        for (long id = 100; id < 3000; id++) {
+            index.remove(id);
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.entryCount()).isLessThan(100);
+        assertThat(ids(index.suggest("서버", 10))).containsExactly(2L);
+        assertThat(index.suggest("서버", 10).get(0).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(ids(index.suggest("점검", 10))).containsExactly(1L);
+        assertThat(index.suggest("임시", 10)).isEmpty();
+    }
+
+    private static TaskSuggestionDto suggestion(long id, String title) {
+        return TaskSuggestionDto.builder().id(id).title(title).status(TaskStatus.TODO).build();
+    }
+
+    private static List<Long> ids(List<TaskSuggestionDto> suggestions) {
+        return suggestions.stream().map(TaskSuggestionDto::getId).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.kanban.security;
+
+import com.example.kanban.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("전용 풀에서 해시를 계산하고 같은 비밀번호는 일치")
+    void encodeAndMatch() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1,
+                Duration.ofSeconds(1))) {
+            String hash = encoder.encode("password123");
+
+            assertThat(encoder.matches("password123", hash)).isTrue();
+            assertThat(encoder.matches("wrong", hash)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 즉시 거절")
+    void encode_RejectsWhenSaturated() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(3))) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+            while (encoder.queueSize() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // when & then
+            assertThatThrownBy(() -> encoder.encode("third"))
+                    .isInstanceOf(PasswordHashingBusyException.class)
+                    .satisfies(e -> assertThat(((PasswordHashingBusyException) e).getRetryAfter())
+                            .isEqualTo(Duration.ofSeconds(3)));
+            assertThat(encoder.rejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isNotBlank();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isNotBlank();
+        }
+    }
+
+    @Test
+    @DisplayName("현재 강도보다 약한 해시는 업그레이드 대상")
+    void upgradeEncoding_WeakerStrength() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("password123");
+
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1,
+                Duration.ofSeconds(1))) {
+            assertThat(encoder.upgradeEncoding(weakHash)).isTrue();
+            assertThat(encoder.upgradeEncoding(encoder.encode("password123"))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.kanban.security;
+
+import com.example.kanban.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final User user = User.builder()
+            .id(1L)
+            .name("테스트사용자")
+            .email("test@example.com")
+            .password("encodedPassword")
+            .build();
+
+    @Test
+    @DisplayName("한 번의 검증으로 클레임을 반환하고 캐시된 결과를 재사용")
+    void validateToken_ReturnsCachedClaims() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 100);
+        String token = provider.generateToken(user);
+
+        Claims first = provider.validateToken(token);
+        Claims second = provider.validateToken(token);
+
+        assertThat(first.getSubject()).isEqualTo("test@example.com");
+        assertThat(second).isSameAs(first);
+        assertThat(provider.isTokenValid(first, user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 파싱하지만 결과는 동일")
+    void validateToken_WithoutCache() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 0);
+        String token = provider.generateToken(user);
+
+        assertThat(provider.validateToken(token).getSubject()).isEqualTo("test@example.com");
+        assertThat(provider.isTokenValid(token, user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 거부")
+    void validateToken_Fail_TamperedSignature() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 100);
+        String token = provider.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> provider.validateToken(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부")
+    void validateToken_Fail_Expired() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, -1_000, 100);
+        String token = provider.generateToken(user);
+
+        assertThatThrownBy(() -> provider.validateToken(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("토큰마다 폐기에 쓸 고유 ID 를 부여")
+    void generateToken_AssignsUniqueId() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 0);
+
+        String first = provider.validateToken(provider.generateToken(user)).getId();
+        String second = provider.validateToken(provider.generateToken(user)).getId();
+
+        assertThat(first).isNotBlank();
+        assertThat(second).isNotEqualTo(first);
+    }
+}
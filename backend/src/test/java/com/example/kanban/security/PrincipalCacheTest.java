@@ -0,0 +1,76 @@
+package com.example.kanban.security;
+
+import com.example.kanban.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, User> loader = email -> {
+        loads.incrementAndGet();
+        if (email.startsWith("missing")) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return User.builder().id(1L).name("테스트사용자").email(email).password("encodedPassword").build();
+    };
+
+    @Test
+    @DisplayName("같은 이메일은 한 번만 조회하고 이후에는 캐시 적중")
+    void get_CachesByEmail() {
+        PrincipalCache cache = new PrincipalCache(true, 100, Duration.ofMinutes(5));
+
+        cache.get("test@example.com", loader);
+        cache.get("test@example.com", loader);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 조회")
+    void invalidate_ForcesReload() {
+        PrincipalCache cache = new PrincipalCache(true, 100, Duration.ofMinutes(5));
+
+        cache.get("test@example.com", loader);
+        cache.invalidate("test@example.com");
+        cache.get("test@example.com", loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+    void get_DoesNotCacheMissingUser() {
+        PrincipalCache cache = new PrincipalCache(true, 100, Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> cache.get("missing@example.com", loader))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> cache.get("missing@example.com", loader))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 항상 조회")
+    void get_DisabledBypassesCache() {
+        PrincipalCache cache = new PrincipalCache(false, 100, Duration.ofMinutes(5));
+
+        cache.get("test@example.com", loader);
+        cache.get("test@example.com", loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.kanban.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RateLimitFilter filter = new RateLimitFilter(true, 2, 1, 100, 50, Duration.ofMinutes(1), 100,
+            new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+
+    @Test
+    @DisplayName("인증 API 는 IP 기준 용량을 넘으면 429 와 Retry-After")
+    void authRoute_RejectsBeyondCapacity() throws ServletException, IOException {
+        assertThat(perform("/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform("/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = perform("/api/auth/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("Too Many Requests");
+        assertThat(meterRegistry.get("kanban.ratelimit.rejected").tag("route", "auth").counter().count())
+                .isEqualTo(1);
+        assertThat(perform("/api/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 경로는 통과")
+    void otherRoute_NotLimited() throws ServletException, IOException {
+        for (int i = 0; i < 5; i++) {
+            assertThat(perform("/actuator/health", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse perform(String uri, String remoteAddr) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.kanban.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("용량만큼 즉시 허용하고 이후에는 보충 간격만큼 기다려야 함")
+    void tryAcquire_BurstThenRefill() {
+        RateLimiter limiter = new RateLimiter(3, 10, Duration.ofMinutes(1), 100, now::get);
+
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 분리됨")
+    void tryAcquire_SeparateBucketsPerKey() {
+        RateLimiter limiter = new RateLimiter(1, 1, Duration.ofMinutes(1), 100, now::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 용량 이상으로 쌓이지 않음")
+    void tryAcquire_DoesNotAccumulateBeyondCapacity() {
+        RateLimiter limiter = new RateLimiter(2, 1, Duration.ofMinutes(1), 100, now::get);
+        limiter.tryAcquire("client");
+
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 용량을 넘겨 허용하지 않음")
+    void tryAcquire_ConcurrentCallersNeverExceedCapacity() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(500, 1, Duration.ofMinutes(1), 100, now::get);
+        int threads = 16;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < 1000; j++) {
+                    if (limiter.tryAcquire("shared") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(allowed.get()).isEqualTo(500);
+    }
+}
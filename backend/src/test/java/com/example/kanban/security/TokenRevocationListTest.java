@@ -0,0 +1,50 @@
+package com.example.kanban.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    @Test
+    @DisplayName("폐기한 jti 만 폐기된 것으로 판단")
+    void isRevoked_OnlyRevokedIds() {
+        TokenRevocationList revocationList = new TokenRevocationList(1 << 16);
+        String revoked = UUID.randomUUID().toString();
+        revocationList.revoke(revoked, System.currentTimeMillis() + 60_000);
+
+        assertThat(revocationList.isRevoked(revoked)).isTrue();
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("블룸 필터가 포화되어도 정확한 목록으로 오탐을 걸러냄")
+    void isRevoked_NoFalsePositivesWhenFilterSaturated() {
+        TokenRevocationList revocationList = new TokenRevocationList(64);
+        for (int i = 0; i < 1_000; i++) {
+            revocationList.revoke(UUID.randomUUID().toString(), System.currentTimeMillis() + 60_000);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 정리 후 사라지고 남은 항목은 유지")
+    void purgeExpired_DropsExpiredEntries() {
+        TokenRevocationList revocationList = new TokenRevocationList(1 << 16);
+        revocationList.revoke("expired", System.currentTimeMillis() - 1);
+        revocationList.revoke("active", System.currentTimeMillis() + 60_000);
+
+        revocationList.purgeExpired();
+
+        assertThat(revocationList.size()).isEqualTo(1);
+        assertThat(revocationList.isRevoked("expired")).isFalse();
+        assertThat(revocationList.isRevoked("active")).isTrue();
+    }
+}
@@ -5,8 +5,13 @@ import com.example.kanban.dto.LoginRequest;
 import com.example.kanban.dto.RegisterRequest;
 import com.example.kanban.entity.User;
 import com.example.kanban.exception.EmailAlreadyExistsException;
+import com.example.kanban.exception.InvalidRefreshTokenException;
 import com.example.kanban.repository.UserRepository;
 import com.example.kanban.security.JwtTokenProvider;
+import com.example.kanban.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +23,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +47,12 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     private AuthService authService;
 
@@ -106,6 +118,7 @@ class AuthServiceTest {
         // given
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
         when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("jwt-token");
+        when(refreshTokenService.issue(1L)).thenReturn("refresh-token");
 
         // when
         AuthenticationResponse response = authService.authenticate(loginRequest);
@@ -113,6 +126,7 @@ class AuthServiceTest {
         // then
         assertThat(response).isNotNull();
         assertThat(response.getToken()).isEqualTo("jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
         assertThat(response.getUsername()).isEqualTo("테스트사용자");
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
     }
@@ -127,4 +141,67 @@ class AuthServiceTest {
         assertThatThrownBy(() -> authService.authenticate(loginRequest))
                 .isInstanceOf(RuntimeException.class);
     }
+
+    @Test
+    @DisplayName("토큰 갱신 성공 - 비밀번호 확인 없이 새 토큰 쌍 발급")
+    void refresh_Success() {
+        // given
+        when(refreshTokenService.consume("old-refresh")).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(user)).thenReturn("new-jwt");
+        when(refreshTokenService.issue(1L)).thenReturn("new-refresh");
+
+        // when
+        AuthenticationResponse response = authService.refresh("old-refresh");
+
+        // then
+        assertThat(response.getToken()).isEqualTo("new-jwt");
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+        verifyNoInteractions(authenticationManager, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 실패 - 이미 사용된 리프레시 토큰")
+    void refresh_Fail_ConsumedToken() {
+        // given
+        when(refreshTokenService.consume("used-refresh"))
+                .thenThrow(new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh("used-refresh"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        verify(refreshTokenService, never()).issue(anyLong());
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 액세스 토큰은 만료 시각까지 폐기, 리프레시 토큰은 삭제")
+    void logout_RevokesBothTokens() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        Claims claims = Jwts.claims().setSubject("test@example.com").setExpiration(expiration);
+        claims.setId("jti-1");
+        when(jwtTokenProvider.validateToken("jwt-token")).thenReturn(claims);
+
+        // when
+        authService.logout("jwt-token", "refresh-token");
+
+        // then
+        verify(tokenRevocationList).revoke("jti-1", expiration.getTime());
+        verify(refreshTokenService).revoke("refresh-token");
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 이미 만료된 액세스 토큰은 폐기 목록에 올리지 않음")
+    void logout_IgnoresExpiredAccessToken() {
+        // given
+        when(jwtTokenProvider.validateToken("expired"))
+                .thenThrow(new ExpiredJwtException(null, null, "JWT expired"));
+
+        // when
+        authService.logout("expired", "refresh-token");
+
+        // then
+        verifyNoInteractions(tokenRevocationList);
+        verify(refreshTokenService).revoke("refresh-token");
+    }
 }
@@ -0,0 +1,134 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100,000건 보드를 내보내는 동안 남아 있는 힙을 주기적으로 재서, 목록으로 모아 반환하는 경로와 비교한다.
+ * 임베디드 H2 는 LAZY_QUERY_EXECUTION 이 켜져 있어야 결과를 미리 모으지 않고 fetch size 대로 넘겨주므로
+ * 별도의 데이터베이스를 쓴다. ./gradlew benchmarkTest 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:exportdb;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=TRUE")
+class TaskExportMemoryTest {
+
+    private static final int TASK_COUNT = 100_000;
+    private static final long SAMPLE_EVERY_BYTES = 4L * 1024 * 1024;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("내보내기 중 힙 증가량이 보드 크기와 무관하게 작게 유지됨")
+    void export_KeepsHeapFlat() throws Exception {
+        String email = seedBoard();
+
+        long baseline = usedHeap();
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+        long exported = taskExportService.export(email, TaskExportService.Format.NDJSON, out);
+        long exportGrowth = out.peak - baseline;
+
+        baseline = usedHeap();
+        List<TaskDto> materialized = taskService.getTasks(email);
+        long listGrowth = usedHeap() - baseline;
+
+        assertThat(exported).isEqualTo(TASK_COUNT);
+        assertThat(materialized).hasSize(TASK_COUNT);
+        assertThat(out.samples).isGreaterThan(3);
+        assertThat(exportGrowth)
+                .as("exported %,d tasks (%,d bytes): peak heap growth %,d bytes; materialized list %,d bytes",
+                        exported, out.written, exportGrowth, listGrowth)
+                .isLessThan(listGrowth / 4);
+    }
+
+    private String seedBoard() {
+        String email = "export-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .name("내보내기")
+                .email(email)
+                .password("encodedPassword")
+                .build());
+        String description = "설명 ".repeat(40);
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            rows.add(new Object[]{9_000_000_000L + i, "태스크 " + i, description, i % 3 == 0 ? "DONE" : "TODO",
+                    (i + 1) * TaskRankService.RANK_GAP, user.getId(), LocalDateTime.now(), LocalDateTime.now()});
+            if (rows.size() == 1000) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+        return email;
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, description, status, task_order, user_id,"
+                    + " created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 응답을 버리면서 일정 바이트마다 GC 후 힙 사용량을 재 최댓값을 기록한다.
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private long written;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+        private long peak;
+        private int samples;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            written += len;
+            if (written >= nextSample) {
+                nextSample += SAMPLE_EVERY_BYTES;
+                peak = Math.max(peak, usedHeap());
+                samples++;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.kanban.service;
+
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.exception.InvalidRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV - 따옴표 안의 쉼표, 줄바꿈, 이스케이프된 따옴표와 CRLF 처리")
+    void csv_QuotedFields() throws IOException {
+        // given
+        String csv = "status,title,description\r\n"
+                + "done,\"장보기, 우유\",\"첫 줄\n둘째 줄\"\r\n"
+                + ",\"\"\"인용\"\" 제목\",\r\n";
+
+        // when
+        List<TaskImportReader.Row> rows = read(TaskImportService.Format.CSV, csv);
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).title()).isEqualTo("장보기, 우유");
+        assertThat(rows.get(0).description()).isEqualTo("첫 줄\n둘째 줄");
+        assertThat(rows.get(0).status()).isEqualTo(TaskStatus.DONE);
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).title()).isEqualTo("\"인용\" 제목");
+        assertThat(rows.get(1).description()).isNull();
+        assertThat(rows.get(1).status()).isEqualTo(TaskStatus.TODO);
+    }
+
+    @Test
+    @DisplayName("CSV - 잘못된 행은 줄 번호와 함께 오류로 돌려주고 다음 행을 계속 읽음")
+    void csv_RowErrors() throws IOException {
+        // given
+        String csv = "title,status\n"
+                + ",TODO\n"
+                + "\n"
+                + "정상,IN_PROGRESS\n"
+                + "상태 오류,LATER\n"
+                + "x".repeat(300) + ",TODO\n";
+
+        // when
+        List<TaskImportReader.Row> rows = read(TaskImportService.Format.CSV, csv);
+
+        // then
+        assertThat(rows).extracting(TaskImportReader.Row::line).containsExactly(2L, 4L, 5L, 6L);
+        assertThat(rows).extracting(TaskImportReader.Row::valid).containsExactly(false, true, false, false);
+        assertThat(rows.get(2).error()).contains("LATER");
+        assertThat(rows.get(3).error()).contains("255");
+    }
+
+    @Test
+    @DisplayName("CSV - title 헤더가 없으면 파일 전체를 거부")
+    void csv_MissingTitleHeader() {
+        assertThatThrownBy(() -> read(TaskImportService.Format.CSV, "name,status\n할 일,TODO\n"))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("NDJSON - 깨진 줄은 오류로 보고하고 나머지는 읽음")
+    void ndjson_RowErrors() throws IOException {
+        // given
+        String ndjson = "{\"title\":\"첫 번째\",\"status\":\"in_progress\"}\n"
+                + "{\"title\":\n"
+                + "[1,2]\n"
+                + "{\"title\":\"네 번째\",\"description\":\"설명\"}\n";
+
+        // when
+        List<TaskImportReader.Row> rows = read(TaskImportService.Format.NDJSON, ndjson);
+
+        // then
+        assertThat(rows).extracting(TaskImportReader.Row::valid).containsExactly(true, false, false, true);
+        assertThat(rows.get(0).status()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(rows.get(1).line()).isEqualTo(2);
+        assertThat(rows.get(3).description()).isEqualTo("설명");
+    }
+
+    private List<TaskImportReader.Row> read(TaskImportService.Format format, String body) throws IOException {
+        List<TaskImportReader.Row> rows = new ArrayList<>();
+        try (TaskImportReader reader = TaskImportReader.open(format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+            TaskImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.TaskImportProgressDto;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크 두 개에 걸치는 CSV 를 가져와 행 수, 오류 상한, 진행 보고, 랭크가 맞는지 확인한다. 10행마다 하나는 잘못된 행이다.
+ * 처리량은 src/jmh 의 TaskImportBenchmark 가 잰다.
+ */
+@SpringBootTest(properties = {"import.chunk-size=10000", "import.max-errors=1000"})
+class TaskImportTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("CSV 가져오기 - 잘못된 행은 건너뛰고 오류는 상한까지만 보고")
+    void csvImport_SkipsInvalidRows() throws Exception {
+        // given
+        User user = userRepository.save(User.builder()
+                .name("가져오기")
+                .email("import-" + UUID.randomUUID() + "@example.com")
+                .password("encodedPassword")
+                .build());
+
+        // when
+        List<TaskImportProgressDto> progress = new ArrayList<>();
+        TaskImportProgressDto result = taskImportService
+                .prepare(user.getEmail(), TaskImportService.Format.CSV, new ByteArrayInputStream(csv()))
+                .run(progress::add);
+
+        // then
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getProcessed()).isEqualTo(ROWS);
+        assertThat(result.getFailed()).isEqualTo(ROWS / 10);
+        assertThat(result.getImported()).isEqualTo(ROWS - ROWS / 10);
+        assertThat(progress).hasSizeGreaterThan(1);
+        assertThat(progress.stream().mapToLong(p -> p.getErrors().size()).sum()).isEqualTo(1000);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT task_order) FROM tasks WHERE user_id = ?", Long.class, user.getId()))
+                .isEqualTo(ROWS - ROWS / 10);
+    }
+
+    private static byte[] csv() {
+        StringBuilder csv = new StringBuilder("title,description,status\n");
+        String[] statuses = {"TODO", "IN_PROGRESS", "DONE"};
+        for (int i = 0; i < ROWS; i++) {
+            if (i % 10 == 9) {
+                csv.append(",빈 제목,TODO\n");
+            } else {
+                csv.append("태스크 ").append(i).append(",\"설명, ").append(i).append("\",")
+                        .append(statuses[i % statuses.length]).append('\n');
+            }
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.TaskDto;
+import com.example.kanban.entity.Task;
+import com.example.kanban.entity.TaskStatus;
+import com.example.kanban.entity.User;
+import com.example.kanban.repository.TaskRepository;
+import com.example.kanban.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 조회 후 매핑하는 경로와 TaskDto 생성자 프로젝션 경로의 JDBC 문장 수와 엔티티 로드 수를 비교한다.
+ * 소요 시간과 할당량은 src/jmh 의 TaskProjectionBenchmark 가 잰다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskProjectionTest {
+
+    private static final int TASK_COUNT = 1_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("프로젝션 경로는 엔티티를 로드하지 않고 한 번의 쿼리로 보드를 읽음")
+    void projection_AvoidsEntityHydration() {
+        String email = seedBoard();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        List<TaskDto> entityPath = new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.findByEmail(email).orElseThrow();
+            return taskRepository.findAllByUserOrderByOrderAsc(user).stream()
+                    .map(TaskService::mapToDto)
+                    .toList();
+        });
+        long entityLoads = statistics.getEntityLoadCount();
+
+        // 사용자 조회가 2차 캐시에 올라간 뒤의 문장만 센다.
+        taskService.getTasks(email);
+        statistics.clear();
+        List<TaskDto> projectionPath = taskService.getTasks(email);
+
+        assertThat(entityPath).hasSize(TASK_COUNT);
+        assertThat(projectionPath).hasSize(TASK_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(entityLoads).isGreaterThanOrEqualTo(TASK_COUNT);
+    }
+
+    private String seedBoard() {
+        String email = "projection-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .name("프로젝션사용자")
+                .email(email)
+                .password("encodedPassword")
+                .build());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Task> tasks = new ArrayList<>(TASK_COUNT);
+            for (int i = 0; i < TASK_COUNT; i++) {
+                tasks.add(Task.builder()
+                        .title("태스크 " + i)
+                        .description("설명 " + i)
+                        .status(TaskStatus.values()[i % TaskStatus.values().length])
+                        .order((i + 1L) * TaskRankService.RANK_GAP)
+                        .user(user)
+                        .build());
+            }
+            taskRepository.saveAll(tasks);
+        });
+        return email;
+    }
+}
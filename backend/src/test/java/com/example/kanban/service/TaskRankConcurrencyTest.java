@@ -0,0 +1,169 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.MoveTaskRequest;
+import com.example.kanban.dto.UpdateTaskRequest;
+import com.example.kanban.entity.Task;
+import com.example.kanban.entity.User;
+import com.example.kanban.exception.TaskOrderConflictException;
+import com.example.kanban.repository.TaskRepository;
+import com.example.kanban.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskRankConcurrencyTest {
+
+    private static final int TASK_COUNT = 20;
+    private static final int THREADS = 8;
+    private static final int MOVES_PER_THREAD = 50;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User user;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("랭크사용자")
+                .email("rank-" + UUID.randomUUID() + "@example.com")
+                .password("encodedPassword")
+                .build());
+
+        taskIds = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            taskIds.add(taskService.createTask(user.getEmail(), CreateTaskRequest.builder()
+                    .title("태스크 " + i)
+                    .build()).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 이동 후에도 랭크가 중복되지 않음")
+    void parallelMoves_NoDuplicateRanks() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < MOVES_PER_THREAD; i++) {
+                        Long moving = taskIds.get(random.nextInt(TASK_COUNT));
+                        Long anchor = taskIds.get(random.nextInt(TASK_COUNT));
+                        if (moving.equals(anchor)) {
+                            continue;
+                        }
+                        MoveTaskRequest request = random.nextBoolean()
+                                ? MoveTaskRequest.builder().afterTaskId(anchor).build()
+                                : MoveTaskRequest.builder().beforeTaskId(anchor).build();
+                        taskService.moveTask(user.getEmail(), moving, request);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Long> orders = taskRepository.findAllByUserOrderByOrderAscIdAsc(user).stream()
+                .map(Task::getOrder)
+                .toList();
+        assertThat(orders).hasSize(TASK_COUNT).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("간격이 소진되면 재정렬 후 요청한 위치에 배치됨")
+    void exhaustedGap_RebalancesAndKeepsPosition() {
+        Long first = taskIds.get(0);
+        Long second = taskIds.get(1);
+
+        // 같은 태스크 바로 뒤에 계속 끼워 넣어 간격을 절반씩 소진시킨다 (2^20 간격 기준 20회 이상).
+        for (int round = 0; round < 3; round++) {
+            for (int i = 2; i < TASK_COUNT; i++) {
+                taskService.moveTask(user.getEmail(), taskIds.get(i),
+                        MoveTaskRequest.builder().afterTaskId(first).build());
+            }
+        }
+        for (int i = 2; i < TASK_COUNT; i++) {
+            taskService.moveTask(user.getEmail(), taskIds.get(i),
+                    MoveTaskRequest.builder().beforeTaskId(second).build());
+        }
+
+        List<Task> tasks = taskRepository.findAllByUserOrderByOrderAscIdAsc(user);
+        assertThat(tasks.get(0).getId()).isEqualTo(first);
+        assertThat(tasks.get(TASK_COUNT - 1).getId()).isEqualTo(second);
+        assertThat(tasks.stream().map(Task::getOrder).toList()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("맞닿은 두 이웃을 함께 보내면 그 사이에 배치됨")
+    void adjacentNeighbours_PlacesBetween() {
+        Long moving = taskIds.get(5);
+
+        taskService.moveTask(user.getEmail(), moving,
+                MoveTaskRequest.builder().afterTaskId(taskIds.get(0)).beforeTaskId(taskIds.get(1)).build());
+
+        List<Long> ids = taskRepository.findAllByUserOrderByOrderAscIdAsc(user).stream()
+                .map(Task::getId)
+                .toList();
+        assertThat(ids.subList(0, 3)).containsExactly(taskIds.get(0), moving, taskIds.get(1));
+    }
+
+    @Test
+    @DisplayName("두 이웃 사이에 같은 컬럼의 태스크가 있거나 순서가 뒤집혔으면 거절")
+    void staleNeighbours_Conflict() {
+        Long moving = taskIds.get(5);
+        List<Long> before = taskRepository.findAllByUserOrderByOrderAscIdAsc(user).stream()
+                .map(Task::getOrder)
+                .toList();
+
+        assertThatThrownBy(() -> taskService.moveTask(user.getEmail(), moving,
+                MoveTaskRequest.builder().afterTaskId(taskIds.get(0)).beforeTaskId(taskIds.get(2)).build()))
+                .isInstanceOf(TaskOrderConflictException.class);
+        assertThatThrownBy(() -> taskService.moveTask(user.getEmail(), moving,
+                MoveTaskRequest.builder().afterTaskId(taskIds.get(1)).beforeTaskId(taskIds.get(0)).build()))
+                .isInstanceOf(TaskOrderConflictException.class);
+
+        assertThat(taskRepository.findAllByUserOrderByOrderAscIdAsc(user).stream().map(Task::getOrder).toList())
+                .isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("수정 요청의 order 는 그 값 이하의 마지막 태스크 뒤로 배치됨")
+    void updateWithOrder_PlacesAfterLowerTask() {
+        Long moving = taskIds.get(5);
+
+        taskService.updateTask(user.getEmail(), moving,
+                UpdateTaskRequest.builder().order(TaskRankService.RANK_GAP + 10).build());
+        taskService.updateTask(user.getEmail(), taskIds.get(6), UpdateTaskRequest.builder().order(0L).build());
+
+        List<Task> tasks = taskRepository.findAllByUserOrderByOrderAscIdAsc(user);
+        assertThat(tasks.stream().map(Task::getId).toList().subList(0, 4))
+                .containsExactly(taskIds.get(6), taskIds.get(0), moving, taskIds.get(1));
+        assertThat(tasks.stream().map(Task::getOrder).toList()).doesNotHaveDuplicates();
+    }
+}
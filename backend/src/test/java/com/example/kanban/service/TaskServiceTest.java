@@ -1,11 +1,23 @@
 package com.example.kanban.service;
 
+import com.example.kanban.dto.BatchTaskUpdateItem;
+import com.example.kanban.dto.BatchTaskUpdateRequest;
 import com.example.kanban.dto.CreateTaskRequest;
+import com.example.kanban.dto.MoveTaskRequest;
+import com.example.kanban.dto.TaskBoardDto;
+import com.example.kanban.dto.TaskChangesDto;
+import com.example.kanban.dto.TaskColumnDto;
 import com.example.kanban.dto.TaskDto;
+import com.example.kanban.dto.TaskPageDto;
+import com.example.kanban.dto.TaskStatusCountDto;
 import com.example.kanban.dto.UpdateTaskRequest;
 import com.example.kanban.entity.Task;
 import com.example.kanban.entity.TaskStatus;
 import com.example.kanban.entity.User;
+import com.example.kanban.event.TaskChangedEvent;
+import com.example.kanban.event.TasksBatchUpdatedEvent;
+import com.example.kanban.exception.InvalidCursorException;
+import com.example.kanban.exception.InvalidRequestException;
 import com.example.kanban.exception.TaskNotFoundException;
 import com.example.kanban.exception.UnauthorizedAccessException;
 import com.example.kanban.repository.TaskRepository;
@@ -17,14 +29,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +53,18 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskRankService taskRankService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BoardVersionService boardVersionService;
+
+    @Mock
+    private TaskTombstoneService taskTombstoneService;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -80,9 +108,9 @@ class TaskServiceTest {
     @DisplayName("태스크 목록 조회 성공")
     void getTasks_Success() {
         // given
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(taskRepository.findAllByUserOrderByOrderAsc(any(User.class)))
-                .thenReturn(List.of(task));
+        when(userRepository.findByNaturalEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(taskRepository.findBoardByUserId(1L)).thenReturn(new ArrayList<>(List.of(new TaskDto(
+                1L, "테스트 태스크", "테스트 설명", TaskStatus.TODO, 1000L, LocalDateTime.now()))));
 
         // when
         List<TaskDto> tasks = taskService.getTasks("test@example.com");
@@ -90,13 +118,142 @@ class TaskServiceTest {
         // then
         assertThat(tasks).hasSize(1);
         assertThat(tasks.get(0).getTitle()).isEqualTo("테스트 태스크");
+        assertThat(tasks.get(0).getCreatorName()).isEqualTo(user.getName());
+    }
+
+    @Test
+    @DisplayName("보드 조회 성공 - 컬럼별 개수와 앞쪽 태스크, 빈 컬럼은 조회하지 않음")
+    void getBoard_Success() {
+        // given
+        when(userRepository.findByNaturalEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(taskRepository.countByStatus(1L)).thenReturn(List.of(
+                new TaskStatusCountDto(TaskStatus.TODO, 3L),
+                new TaskStatusCountDto(TaskStatus.DONE, 1L)));
+        Task done = Task.builder()
+                .id(2L)
+                .title("완료된 태스크")
+                .status(TaskStatus.DONE)
+                .order(3000L)
+                .user(user)
+                .build();
+        when(taskRepository.findColumnByUserId(eq(1L), eq(TaskStatus.TODO), any(Pageable.class)))
+                .thenReturn(List.of(TaskService.mapToDto(task)));
+        when(taskRepository.findColumnByUserId(eq(1L), eq(TaskStatus.DONE), any(Pageable.class)))
+                .thenReturn(List.of(TaskService.mapToDto(done)));
+
+        // when
+        TaskBoardDto board = taskService.getBoard("test@example.com", 1);
+
+        // then
+        assertThat(board.getColumns()).extracting(TaskColumnDto::getStatus)
+                .containsExactly(TaskStatus.values());
+        TaskColumnDto todo = board.getColumns().get(TaskStatus.TODO.ordinal());
+        assertThat(todo.getCount()).isEqualTo(3L);
+        assertThat(todo.getTasks()).singleElement()
+                .satisfies(dto -> assertThat(dto.getCreatorName()).isEqualTo(user.getName()));
+        assertThat(todo.isHasNext()).isTrue();
+        assertThat(todo.getNextCursor()).isEqualTo(new TaskCursor(1000L, 1L).encode());
+
+        TaskColumnDto doneColumn = board.getColumns().get(TaskStatus.DONE.ordinal());
+        assertThat(doneColumn.isHasNext()).isFalse();
+        assertThat(doneColumn.getNextCursor()).isNull();
+
+        TaskColumnDto inProgress = board.getColumns().get(TaskStatus.IN_PROGRESS.ordinal());
+        assertThat(inProgress.getCount()).isZero();
+        assertThat(inProgress.getTasks()).isEmpty();
+        verify(taskRepository, never()).findColumnByUserId(anyLong(), eq(TaskStatus.IN_PROGRESS), any());
+    }
+
+    @Test
+    @DisplayName("태스크 페이지 조회 성공 - 다음 페이지 존재")
+    void getTaskPage_HasNext() {
+        // given
+        Task second = Task.builder()
+                .id(2L)
+                .title("두번째 태스크")
+                .status(TaskStatus.TODO)
+                .order(2000L)
+                .user(user)
+                .build();
+        when(taskRepository.findFirstPage(eq("test@example.com"), any(Pageable.class)))
+                .thenReturn(List.of(TaskService.mapToDto(task), TaskService.mapToDto(second)));
+
+        // when
+        TaskPageDto page = taskService.getTaskPage("test@example.com", null, null, 1);
+
+        // then
+        assertThat(page.getTasks()).hasSize(1);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(new TaskCursor(1000L, 1L).encode());
+    }
+
+    @Test
+    @DisplayName("태스크 페이지 조회 성공 - 커서 이후 상태별 조회")
+    void getTaskPage_AfterCursorByStatus() {
+        // given
+        when(taskRepository.findPageAfterByStatus(eq("test@example.com"), eq(TaskStatus.TODO), eq(500L), eq(7L),
+                any(Pageable.class)))
+                .thenReturn(List.of(TaskService.mapToDto(task)));
+
+        // when
+        TaskPageDto page = taskService.getTaskPage("test@example.com", TaskStatus.TODO,
+                new TaskCursor(500L, 7L).encode(), 10);
+
+        // then
+        assertThat(page.getTasks()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("태스크 페이지 조회 실패 - 잘못된 커서")
+    void getTaskPage_Fail_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> taskService.getTaskPage("test@example.com", null, "not-a-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("변경분 조회 성공 - 변경된 태스크와 삭제 흔적")
+    void getChanges_Success() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusMinutes(10);
+        when(taskTombstoneService.isBeyondRetention(since)).thenReturn(false);
+        when(userRepository.findByNaturalEmail(anyString())).thenReturn(Optional.of(user));
+        when(taskRepository.findChangedSince(user, since)).thenReturn(List.of(TaskService.mapToDto(task)));
+        when(taskTombstoneService.findDeletedSince(1L, since)).thenReturn(List.of(7L));
+
+        // when
+        TaskChangesDto changes = taskService.getChanges("test@example.com", since);
+
+        // then
+        assertThat(changes.isFullResync()).isFalse();
+        assertThat(changes.getChanged()).extracting(TaskDto::getId).containsExactly(1L);
+        assertThat(changes.getDeletedIds()).containsExactly(7L);
+        assertThat(changes.getCursor()).isAfter(since);
+    }
+
+    @Test
+    @DisplayName("변경분 조회 - 보존 기간을 넘은 커서는 전체 재동기화 요구")
+    void getChanges_FullResyncBeyondRetention() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusDays(90);
+        when(taskTombstoneService.isBeyondRetention(since)).thenReturn(true);
+
+        // when
+        TaskChangesDto changes = taskService.getChanges("test@example.com", since);
+
+        // then
+        assertThat(changes.isFullResync()).isTrue();
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     @DisplayName("태스크 생성 성공")
     void createTask_Success() {
         // given
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(userRepository.findByEmailForUpdate(anyString())).thenReturn(Optional.of(user));
+        when(taskRankService.nextRank(user)).thenReturn(2000L);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
 
         // when
@@ -109,25 +266,31 @@ class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("태스크 수정 성공")
+    @DisplayName("태스크 수정 성공 - 소유자 조건부 UPDATE 한 문장")
     void updateTask_Success() {
         // given
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.updateOwnedTask(eq(1L), eq("test@example.com"), eq("수정된 태스크"), eq("수정된 설명"),
+                eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class))).thenReturn(1);
+        when(taskRepository.findDtoById(1L)).thenReturn(Optional.of(TaskService.mapToDto(task)));
 
         // when
         TaskDto result = taskService.updateTask("test@example.com", 1L, updateRequest);
 
         // then
         assertThat(result).isNotNull();
-        verify(taskRepository).save(any(Task.class));
+        verify(boardVersionService).incrementByEmail("test@example.com");
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).existsById(anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
     @DisplayName("태스크 수정 실패 - 태스크 없음")
     void updateTask_Fail_TaskNotFound() {
         // given
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.updateOwnedTask(anyLong(), anyString(), any(), any(), any(), any()))
+                .thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> taskService.updateTask("test@example.com", 1L, updateRequest))
@@ -137,6 +300,118 @@ class TaskServiceTest {
     @Test
     @DisplayName("태스크 수정 실패 - 권한 없음")
     void updateTask_Fail_Unauthorized() {
+        // given
+        when(taskRepository.updateOwnedTask(anyLong(), anyString(), any(), any(), any(), any()))
+                .thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> taskService.updateTask("test@example.com", 1L, updateRequest))
+                .isInstanceOf(UnauthorizedAccessException.class);
+        verifyNoInteractions(boardVersionService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("태스크 수정 - order 는 랭크 엔진으로 다시 정함")
+    void updateTask_WithOrder_UsesRankEngine() {
+        // given
+        updateRequest.setOrder(3000L);
+        when(userRepository.findByEmailForUpdate(anyString())).thenReturn(Optional.of(user));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRankService.rankAt(user, task, 3000L)).thenReturn(2500L);
+        when(taskRepository.save(task)).thenReturn(task);
+
+        // when
+        TaskDto result = taskService.updateTask("test@example.com", 1L, updateRequest);
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("수정된 태스크");
+        assertThat(result.getOrder()).isEqualTo(2500L);
+        verify(taskRepository, never()).updateOwnedTask(anyLong(), anyString(), any(), any(), any(), any());
+        verify(boardVersionService).increment(1L);
+    }
+
+    @Test
+    @DisplayName("태스크 일괄 수정 성공")
+    void batchUpdateTasks_Success() {
+        // given
+        Task second = Task.builder()
+                .id(2L)
+                .title("두번째 태스크")
+                .status(TaskStatus.TODO)
+                .order(2000L)
+                .user(user)
+                .build();
+        BatchTaskUpdateRequest request = BatchTaskUpdateRequest.builder()
+                .updates(List.of(
+                        BatchTaskUpdateItem.builder().id(1L).status(TaskStatus.DONE).build(),
+                        BatchTaskUpdateItem.builder().id(2L).title("이름 변경").build()))
+                .build();
+        when(userRepository.findByNaturalEmail(anyString())).thenReturn(Optional.of(user));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task, second));
+
+        // when
+        List<TaskDto> result = taskService.batchUpdateTasks("test@example.com", request);
+
+        // then
+        assertThat(result).extracting(TaskDto::getId).containsExactly(1L, 2L);
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(task.getOrder()).isEqualTo(1000L);
+        assertThat(second.getTitle()).isEqualTo("이름 변경");
+        verify(taskRepository).flush();
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TasksBatchUpdatedEvent.class));
+        verifyNoInteractions(taskRankService);
+    }
+
+    @Test
+    @DisplayName("태스크 일괄 수정 - 이웃 ID 와 order 는 랭크 엔진을 거침")
+    void batchUpdateTasks_Reorder_UsesRankEngine() {
+        // given
+        Task second = Task.builder()
+                .id(2L)
+                .title("두번째 태스크")
+                .status(TaskStatus.TODO)
+                .order(2000L)
+                .user(user)
+                .build();
+        BatchTaskUpdateRequest request = BatchTaskUpdateRequest.builder()
+                .updates(List.of(
+                        BatchTaskUpdateItem.builder().id(1L).status(TaskStatus.DONE).afterTaskId(3L).build(),
+                        BatchTaskUpdateItem.builder().id(2L).order(500L).build()))
+                .build();
+        when(userRepository.findByEmailForUpdate(anyString())).thenReturn(Optional.of(user));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task, second));
+        when(taskRankService.rankBetween(user, task, 3L, null)).thenReturn(4000L);
+        when(taskRankService.rankAt(user, second, 500L)).thenReturn(512L);
+
+        // when
+        taskService.batchUpdateTasks("test@example.com", request);
+
+        // then
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(task.getOrder()).isEqualTo(4000L);
+        assertThat(second.getOrder()).isEqualTo(512L);
+        verify(userRepository, never()).findByNaturalEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("태스크 일괄 수정 실패 - order 와 이웃 ID 를 함께 보냄")
+    void batchUpdateTasks_Fail_OrderWithNeighbour() {
+        // given
+        BatchTaskUpdateRequest request = BatchTaskUpdateRequest.builder()
+                .updates(List.of(BatchTaskUpdateItem.builder().id(1L).order(3000L).afterTaskId(2L).build()))
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> taskService.batchUpdateTasks("test@example.com", request))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(taskRepository, taskRankService);
+    }
+
+    @Test
+    @DisplayName("태스크 일괄 수정 실패 - 권한 없음")
+    void batchUpdateTasks_Fail_Unauthorized() {
         // given
         User otherUser = User.builder()
                 .id(2L)
@@ -145,36 +420,71 @@ class TaskServiceTest {
                 .password("encodedPassword")
                 .build();
         Task otherTask = Task.builder()
-                .id(1L)
+                .id(2L)
                 .title("다른 태스크")
                 .user(otherUser)
                 .build();
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(otherTask));
+        BatchTaskUpdateRequest request = BatchTaskUpdateRequest.builder()
+                .updates(List.of(
+                        BatchTaskUpdateItem.builder().id(1L).status(TaskStatus.DONE).build(),
+                        BatchTaskUpdateItem.builder().id(2L).status(TaskStatus.DONE).build()))
+                .build();
+        when(userRepository.findByNaturalEmail(anyString())).thenReturn(Optional.of(user));
+        when(taskRepository.findAllById(any())).thenReturn(List.of(task, otherTask));
 
         // when & then
-        assertThatThrownBy(() -> taskService.updateTask("test@example.com", 1L, updateRequest))
+        assertThatThrownBy(() -> taskService.batchUpdateTasks("test@example.com", request))
                 .isInstanceOf(UnauthorizedAccessException.class);
+        verify(taskRepository, never()).flush();
     }
 
     @Test
-    @DisplayName("태스크 삭제 성공")
+    @DisplayName("태스크 이동 성공 - 이동한 태스크만 랭크 갱신")
+    void moveTask_Success() {
+        // given
+        MoveTaskRequest moveRequest = MoveTaskRequest.builder()
+                .status(TaskStatus.DONE)
+                .afterTaskId(2L)
+                .build();
+        when(userRepository.findByEmailForUpdate(anyString())).thenReturn(Optional.of(user));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRankService.rankBetween(user, task, 2L, null)).thenReturn(1500L);
+        when(taskRepository.save(task)).thenReturn(task);
+
+        // when
+        TaskDto result = taskService.moveTask("test@example.com", 1L, moveRequest);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(result.getOrder()).isEqualTo(1500L);
+        verify(taskRepository, times(1)).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("태스크 삭제 성공 - 소유자 조건부 DELETE 한 문장")
     void deleteTask_Success() {
         // given
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task));
-        doNothing().when(taskRepository).delete(any(Task.class));
+        when(userRepository.findIdByEmail("test@example.com")).thenReturn(Optional.of(1L));
+        when(taskRepository.deleteOwnedTask(1L, 1L)).thenReturn(1);
 
         // when
         taskService.deleteTask("test@example.com", 1L);
 
         // then
-        verify(taskRepository).delete(task);
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).existsById(anyLong());
+        verify(taskTombstoneService).record(1L, 1L);
+        verify(boardVersionService).increment(1L);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted("test@example.com", 1L));
     }
 
     @Test
     @DisplayName("태스크 삭제 실패 - 태스크 없음")
     void deleteTask_Fail_TaskNotFound() {
         // given
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.findIdByEmail("test@example.com")).thenReturn(Optional.of(1L));
+        when(taskRepository.deleteOwnedTask(1L, 1L)).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> taskService.deleteTask("test@example.com", 1L))
@@ -185,21 +495,13 @@ class TaskServiceTest {
     @DisplayName("태스크 삭제 실패 - 권한 없음")
     void deleteTask_Fail_Unauthorized() {
         // given
-        User otherUser = User.builder()
-                .id(2L)
-                .name("다른사용자")
-                .email("other@example.com")
-                .password("encodedPassword")
-                .build();
-        Task otherTask = Task.builder()
-                .id(1L)
-                .title("다른 태스크")
-                .user(otherUser)
-                .build();
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(otherTask));
+        when(userRepository.findIdByEmail("test@example.com")).thenReturn(Optional.of(1L));
+        when(taskRepository.deleteOwnedTask(1L, 1L)).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
 
         // when & then
         assertThatThrownBy(() -> taskService.deleteTask("test@example.com", 1L))
                 .isInstanceOf(UnauthorizedAccessException.class);
+        verifyNoInteractions(taskTombstoneService, eventPublisher);
     }
 }
@@ -11,9 +11,20 @@ interface ColumnProps {
   id: TaskStatus;
   title: string;
   tasks: Task[];
+  // 아직 불러오지 않은 태스크를 포함한 컬럼 전체 개수
+  count: number;
+  hasMore: boolean;
+  onLoadMore: () => void;
 }
 
-export default function Column({ id, title, tasks }: ColumnProps) {
+export default function Column({
+  id,
+  title,
+  tasks,
+  count,
+  hasMore,
+  onLoadMore,
+}: ColumnProps) {
   const { setNodeRef } = useDroppable({
     id: id,
   });
@@ -24,7 +35,7 @@ export default function Column({ id, title, tasks }: ColumnProps) {
         <h2 className='text-lg font-bold text-slate-300 flex items-center gap-2'>
           {title}
           <span className='bg-slate-800 text-slate-500 text-xs px-2 py-0.5 rounded-full'>
-            {tasks.length}
+            {count}
           </span>
         </h2>
       </div>
@@ -42,7 +53,16 @@ export default function Column({ id, title, tasks }: ColumnProps) {
           {tasks.map((task) => (
             <TaskCard key={task.id} task={task} />
           ))}
-          {tasks.length === 0 && (
+          {hasMore && (
+            <button
+              type='button'
+              onClick={onLoadMore}
+              className='py-2 text-sm text-slate-500 hover:text-slate-300 rounded-lg border border-slate-800 hover:border-slate-700 transition-colors'
+            >
+              더 보기
+            </button>
+          )}
+          {tasks.length === 0 && !hasMore && (
             <div className='h-full flex items-center justify-center text-slate-600 text-sm border-2 border-dashed border-slate-800 rounded-lg'>
               여기에 항목을 놓으세요
             </div>
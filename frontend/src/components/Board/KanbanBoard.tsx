@@ -20,7 +20,8 @@ const COLUMNS: { id: TaskStatus; title: string }[] = [
 ];
 
 export default function KanbanBoard() {
-  const { tasks, fetchTasks, moveTask } = useTaskStore();
+  const { tasks, counts, cursors, fetchTasks, fetchMore, moveTask } =
+    useTaskStore();
   const [activeTask, setActiveTask] = useState<Task | null>(null);
 
   useEffect(() => {
@@ -60,48 +61,49 @@ export default function KanbanBoard() {
     }
   };
 
-  const calculateNewOrder = (
+  // 화면에 바로 보여줄 임시 순서와 서버에 보낼 이웃 태스크를 함께 정한다.
+  const calculatePlacement = (
     columnTasks: Task[],
     overTaskId: number | null,
     activeTaskId: number
-  ): number => {
+  ): { order: number; afterTaskId?: number; beforeTaskId?: number } => {
     const filteredTasks = columnTasks.filter((t) => t.id !== activeTaskId);
 
     if (filteredTasks.length === 0) {
-      return Date.now();
+      return { order: Date.now() };
     }
 
     if (overTaskId === null) {
       // 컬럼 끝에 드롭
-      return filteredTasks[filteredTasks.length - 1].order + 1000;
+      const last = filteredTasks[filteredTasks.length - 1];
+      return { order: last.order + 1000, afterTaskId: last.id };
     }
 
     const overIndex = filteredTasks.findIndex((t) => t.id === overTaskId);
     if (overIndex === -1) {
-      return Date.now();
+      return { order: Date.now() };
     }
 
     // 드래그 방향 확인 (원본 리스트에서의 인덱스 비교)
     const activeIndex = columnTasks.findIndex((t) => t.id === activeTaskId);
     const originalOverIndex = columnTasks.findIndex((t) => t.id === overTaskId);
     const isDraggingDown = activeIndex !== -1 && activeIndex < originalOverIndex;
+    const overTask = filteredTasks[overIndex];
 
     if (isDraggingDown) {
       // 위에서 아래로 드래그: over 태스크 뒤에 배치
       if (overIndex === filteredTasks.length - 1) {
-        return filteredTasks[overIndex].order + 1000;
+        return { order: overTask.order + 1000, afterTaskId: overTask.id };
       }
-      const currentOrder = filteredTasks[overIndex].order;
       const nextOrder = filteredTasks[overIndex + 1].order;
-      return (currentOrder + nextOrder) / 2;
+      return { order: (overTask.order + nextOrder) / 2, afterTaskId: overTask.id };
     } else {
       // 아래에서 위로 드래그: over 태스크 앞에 배치
       if (overIndex === 0) {
-        return filteredTasks[0].order - 1000;
+        return { order: overTask.order - 1000, beforeTaskId: overTask.id };
       }
       const prevOrder = filteredTasks[overIndex - 1].order;
-      const currentOrder = filteredTasks[overIndex].order;
-      return (prevOrder + currentOrder) / 2;
+      return { order: (prevOrder + overTask.order) / 2, beforeTaskId: overTask.id };
     }
   };
 
@@ -138,11 +140,15 @@ export default function KanbanBoard() {
       }
 
       const columnTasks = tasksByColumn[newStatus];
-      const newOrder = calculateNewOrder(columnTasks, overTaskId, activeId);
+      const { order, afterTaskId, beforeTaskId } = calculatePlacement(
+        columnTasks,
+        overTaskId,
+        activeId
+      );
 
       // 상태나 순서가 변경된 경우에만 업데이트
-      if (activeTask.status !== newStatus || activeTask.order !== newOrder) {
-        moveTask(activeId, newStatus, newOrder);
+      if (activeTask.status !== newStatus || activeTask.order !== order) {
+        moveTask(activeId, { status: newStatus, afterTaskId, beforeTaskId }, order);
       }
     }
 
@@ -162,6 +168,9 @@ export default function KanbanBoard() {
             id={col.id}
             title={col.title}
             tasks={tasksByColumn[col.id]}
+            count={counts[col.id]}
+            hasMore={cursors[col.id] !== null}
+            onLoadMore={() => fetchMore(col.id)}
           />
         ))}
       </div>
@@ -1,5 +1,6 @@
-import axios from 'axios';
+import axios, { AxiosError, type InternalAxiosRequestConfig } from 'axios';
 import { useAuthStore } from '../store/authStore';
+import type { AuthResponse } from '../types';
 
 const api = axios.create({
   baseURL: import.meta.env.VITE_API_URL || 'http://localhost:8080',
@@ -16,4 +17,45 @@ api.interceptors.request.use((config) => {
   return config;
 });
 
+// 액세스 토큰이 만료되면 리프레시 토큰으로 한 번만 갱신하고 원래 요청을 다시 보낸다.
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = async (): Promise<string> => {
+  const { refreshToken, setAuth } = useAuthStore.getState();
+  if (!refreshToken) {
+    throw new Error('No refresh token');
+  }
+  const res = await axios.post<AuthResponse>(
+    `${api.defaults.baseURL}/api/auth/refresh`,
+    { refreshToken }
+  );
+  setAuth(res.data.token, res.data.refreshToken, res.data.username);
+  return res.data.token;
+};
+
+api.interceptors.response.use(
+  (response) => response,
+  async (error: AxiosError) => {
+    const original = error.config as
+      | (InternalAxiosRequestConfig & { _retried?: boolean })
+      | undefined;
+    const status = error.response?.status;
+    if (!original || original._retried || (status !== 401 && status !== 403)) {
+      return Promise.reject(error);
+    }
+    original._retried = true;
+    try {
+      refreshing = refreshing ?? refreshAccessToken();
+      const token = await refreshing;
+      original.headers.Authorization = `Bearer ${token}`;
+      return api(original);
+    } catch {
+      useAuthStore.getState().logout();
+      return Promise.reject(error);
+    } finally {
+      refreshing = null;
+    }
+  }
+);
+
 export default api;
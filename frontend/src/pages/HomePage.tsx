@@ -1,14 +1,23 @@
 import { useState } from 'react';
 import { useAuthStore } from '../store/authStore';
+import api from '../lib/api';
 import Button from '../components/ui/Button';
 import KanbanBoard from '../components/Board/KanbanBoard';
 import NewTaskModal from '../components/Board/NewTaskModal';
 import { Plus } from 'lucide-react';
 
 export default function HomePage() {
-  const { user, logout } = useAuthStore();
+  const { user, refreshToken, logout } = useAuthStore();
   const [isModalOpen, setIsModalOpen] = useState(false);
 
+  const handleLogout = async () => {
+    try {
+      await api.post('/api/auth/logout', { refreshToken });
+    } finally {
+      logout();
+    }
+  };
+
   return (
     <div className='min-h-screen bg-background p-8 flex flex-col'>
       <header className='flex justify-between items-center mb-8 shrink-0'>
@@ -24,7 +33,7 @@ export default function HomePage() {
           <Button onClick={() => setIsModalOpen(true)}>
             <Plus size={20} />새 작업
           </Button>
-          <Button onClick={logout} variant='secondary'>
+          <Button onClick={handleLogout} variant='secondary'>
             로그아웃
           </Button>
         </div>
@@ -22,7 +22,7 @@ export default function LoginPage() {
     setIsLoading(true);
     try {
       const res = await api.post<AuthResponse>('/api/auth/login', data);
-      setAuth(res.data.token, res.data.username);
+      setAuth(res.data.token, res.data.refreshToken, res.data.username);
       navigate('/');
     } catch {
       alert('로그인에 실패했습니다. 인증 정보를 확인해주세요.');
@@ -22,7 +22,7 @@ export default function RegisterPage() {
     setIsLoading(true);
     try {
       const res = await api.post<AuthResponse>('/api/auth/register', data);
-      setAuth(res.data.token, res.data.username);
+      setAuth(res.data.token, res.data.refreshToken, res.data.username);
       navigate('/');
     } catch {
       alert('회원가입에 실패했습니다. 이미 사용 중인 이메일일 수 있습니다.');
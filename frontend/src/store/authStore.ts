@@ -3,8 +3,9 @@ import { persist } from 'zustand/middleware';
 
 interface AuthState {
   token: string | null;
+  refreshToken: string | null;
   user: { username: string } | null;
-  setAuth: (token: string, username: string) => void;
+  setAuth: (token: string, refreshToken: string, username: string) => void;
   logout: () => void;
 }
 
@@ -12,9 +13,11 @@ export const useAuthStore = create<AuthState>()(
   persist(
     (set) => ({
       token: null,
+      refreshToken: null,
       user: null,
-      setAuth: (token, username) => set({ token, user: { username } }),
-      logout: () => set({ token: null, user: null }),
+      setAuth: (token, refreshToken, username) =>
+        set({ token, refreshToken, user: { username } }),
+      logout: () => set({ token: null, refreshToken: null, user: null }),
     }),
     {
       name: 'auth-storage',
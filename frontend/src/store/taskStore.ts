@@ -1,82 +1,203 @@
 import { create } from 'zustand';
+import { isAxiosError } from 'axios';
 import api from '../lib/api';
 import type {
   Task,
+  TaskBoard,
+  TaskPage,
   CreateTaskRequest,
   UpdateTaskRequest,
+  MoveTaskRequest,
   TaskStatus,
 } from '../types';
 
+// 컬럼마다 처음에 불러오는 태스크 수. 나머지는 '더 보기'로 같은 크기만큼 이어서 불러온다.
+const COLUMN_PAGE_SIZE = 50;
+
+const emptyCounts = (): Record<TaskStatus, number> => ({
+  TODO: 0,
+  IN_PROGRESS: 0,
+  DONE: 0,
+});
+
+const emptyCursors = (): Record<TaskStatus, string | null> => ({
+  TODO: null,
+  IN_PROGRESS: null,
+  DONE: null,
+});
+
 interface TaskState {
   tasks: Task[];
+  // 서버 기준 컬럼별 전체 태스크 수. 아직 불러오지 않은 태스크도 포함한다.
+  counts: Record<TaskStatus, number>;
+  // 컬럼별 다음 페이지 커서. null 이면 모두 불러온 상태다.
+  cursors: Record<TaskStatus, string | null>;
   isLoading: boolean;
   error: string | null;
   fetchTasks: () => Promise<void>;
+  fetchMore: (status: TaskStatus) => Promise<void>;
   createTask: (data: CreateTaskRequest) => Promise<void>;
   updateTask: (id: number, data: UpdateTaskRequest) => Promise<void>;
   deleteTask: (id: number) => Promise<void>;
   moveTask: (
     activeId: number,
-    newStatus: TaskStatus,
-    newOrder: number
+    move: MoveTaskRequest,
+    optimisticOrder: number
   ) => Promise<void>;
 }
 
 export const useTaskStore = create<TaskState>((set, get) => ({
   tasks: [],
+  counts: emptyCounts(),
+  cursors: emptyCursors(),
   isLoading: false,
   error: null,
 
   fetchTasks: async () => {
     set({ isLoading: true, error: null });
     try {
-      const res = await api.get<Task[]>('/api/tasks');
-      // Sort on client side just in case, though backend does it too.
-      // But for Kanban, we might need to separate by columns.
-      set({ tasks: res.data, isLoading: false });
+      const res = await api.get<TaskBoard>('/api/tasks/board', {
+        params: { limit: COLUMN_PAGE_SIZE },
+      });
+      const counts = emptyCounts();
+      const cursors = emptyCursors();
+      res.data.columns.forEach((column) => {
+        counts[column.status] = column.count;
+        cursors[column.status] = column.hasNext ? column.nextCursor : null;
+      });
+      set({
+        tasks: res.data.columns.flatMap((column) => column.tasks),
+        counts,
+        cursors,
+        isLoading: false,
+      });
     } catch {
       set({ error: '태스크를 불러오는데 실패했습니다.', isLoading: false });
     }
   },
 
+  fetchMore: async (status) => {
+    const cursor = get().cursors[status];
+    if (!cursor) {
+      return;
+    }
+    try {
+      const res = await api.get<TaskPage>('/api/tasks', {
+        params: { limit: COLUMN_PAGE_SIZE, status, cursor },
+      });
+      set((state) => {
+        // 다른 컬럼에서 옮겨 온 태스크는 이미 갖고 있으므로 중복해서 넣지 않는다.
+        const loaded = new Set(state.tasks.map((t) => t.id));
+        return {
+          tasks: [
+            ...state.tasks,
+            ...res.data.tasks.filter((t) => !loaded.has(t.id)),
+          ],
+          cursors: {
+            ...state.cursors,
+            [status]: res.data.hasNext ? res.data.nextCursor : null,
+          },
+        };
+      });
+    } catch {
+      set({ error: '태스크를 불러오는데 실패했습니다.' });
+    }
+  },
+
   createTask: async (data) => {
     const res = await api.post<Task>('/api/tasks', data);
-    set((state) => ({ tasks: [...state.tasks, res.data] }));
+    set((state) => ({
+      tasks: [...state.tasks, res.data],
+      counts: {
+        ...state.counts,
+        [res.data.status]: state.counts[res.data.status] + 1,
+      },
+    }));
   },
 
   updateTask: async (id, data) => {
     // Optimistic update
     const previousTasks = get().tasks;
-    set((state) => ({
-      tasks: state.tasks.map((t) => (t.id === id ? { ...t, ...data } : t)),
-    }));
+    const previousCounts = get().counts;
+    const task = previousTasks.find((t) => t.id === id);
+    set((state) => {
+      const counts = { ...state.counts };
+      if (task && data.status && data.status !== task.status) {
+        counts[task.status] -= 1;
+        counts[data.status] += 1;
+      }
+      return {
+        tasks: state.tasks.map((t) => (t.id === id ? { ...t, ...data } : t)),
+        counts,
+      };
+    });
 
     try {
       await api.put<Task>(`/api/tasks/${id}`, data);
       // Optionally refetch or update with real server data if needed
     } catch (err) {
       // Rollback
-      set({ tasks: previousTasks });
+      set({ tasks: previousTasks, counts: previousCounts });
       throw err;
     }
   },
 
   deleteTask: async (id) => {
     const previousTasks = get().tasks;
-    set((state) => ({ tasks: state.tasks.filter((t) => t.id !== id) }));
+    const previousCounts = get().counts;
+    const task = previousTasks.find((t) => t.id === id);
+    set((state) => ({
+      tasks: state.tasks.filter((t) => t.id !== id),
+      counts: task
+        ? { ...state.counts, [task.status]: state.counts[task.status] - 1 }
+        : state.counts,
+    }));
 
     try {
       await api.delete(`/api/tasks/${id}`);
     } catch (err) {
-      set({ tasks: previousTasks });
+      set({ tasks: previousTasks, counts: previousCounts });
       throw err;
     }
   },
 
-  moveTask: async (activeId, newStatus, newOrder) => {
+  moveTask: async (activeId, move, optimisticOrder) => {
     const task = get().tasks.find((t) => t.id === activeId);
-    if (task) {
-      await get().updateTask(activeId, { status: newStatus, order: newOrder });
+    if (!task) {
+      return;
+    }
+    // 서버가 랭크를 정하기 전까지 화면에서는 이웃 사이의 임시 순서로 보여준다.
+    const previousTasks = get().tasks;
+    const previousCounts = get().counts;
+    set((state) => {
+      const counts = { ...state.counts };
+      if (move.status !== task.status) {
+        counts[task.status] -= 1;
+        counts[move.status] += 1;
+      }
+      return {
+        tasks: state.tasks.map((t) =>
+          t.id === activeId
+            ? { ...t, status: move.status, order: optimisticOrder }
+            : t
+        ),
+        counts,
+      };
+    });
+
+    try {
+      const res = await api.put<Task>(`/api/tasks/${activeId}/move`, move);
+      set((state) => ({
+        tasks: state.tasks.map((t) => (t.id === activeId ? res.data : t)),
+      }));
+    } catch (err) {
+      set({ tasks: previousTasks, counts: previousCounts });
+      // 409 는 이웃 카드가 그 사이 움직였다는 뜻이므로 보드를 다시 불러와 최신 순서를 보여준다.
+      if (isAxiosError(err) && err.response?.status === 409) {
+        await get().fetchTasks();
+        return;
+      }
+      throw err;
     }
   },
 }));
@@ -10,6 +10,24 @@ export interface Task {
   createdAt: string;
 }
 
+export interface TaskColumn {
+  status: TaskStatus;
+  count: number;
+  tasks: Task[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+export interface TaskBoard {
+  columns: TaskColumn[];
+}
+
+export interface TaskPage {
+  tasks: Task[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 export interface LoginFormData {
   email: string;
   password: string;
@@ -23,6 +41,7 @@ export interface RegisterFormData {
 
 export interface AuthResponse {
   token: string;
+  refreshToken: string;
   username: string;
 }
 
@@ -35,5 +54,11 @@ export interface UpdateTaskRequest {
   title?: string;
   description?: string;
   status?: TaskStatus;
-  order?: number;
+}
+
+// 순서는 서버가 이웃 태스크를 기준으로 정한다. afterTaskId 가 있으면 그 뒤, 없으면 beforeTaskId 앞에 놓는다.
+export interface MoveTaskRequest {
+  status: TaskStatus;
+  afterTaskId?: number;
+  beforeTaskId?: number;
 }